@@ -0,0 +1,530 @@
+package com.bobocode.bibernate.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Annotation processor that generates a reflection-free {@code GeneratedEntityMapper} for every class annotated
+ * with {@code com.bobocode.bibernate.annotation.Entity} and registers generated mappers as service providers,
+ * so Bibernate picks them up automatically.
+ * <p>
+ * Mapping annotations are read at compile time. Generated mappers hydrate rows, bind parameters and compare snapshots
+ * with straight-line code that calls typed entity accessors and typed JDBC getters and setters, so primitive values are
+ * not boxed. They also declare typed static accessors of every attribute that Bibernate uses for single attribute
+ * access.
+ * <p>
+ * Entity fields are accessed directly when they are not private, otherwise through standard ({@code getName/setName})
+ * or fluent ({@code name()/name(value)}) accessors. When an entity has a field that cannot be accessed in one of these
+ * ways, has no non-private no-arg constructor or no {@code @Id} field, a mapper is not generated and Bibernate falls
+ * back to reflection for that entity.
+ */
+@SupportedAnnotationTypes(EntityMapperProcessor.ENTITY_ANNOTATION)
+public class EntityMapperProcessor extends AbstractProcessor {
+
+    static final String ENTITY_ANNOTATION = "com.bobocode.bibernate.annotation.Entity";
+    static final String MAPPER_INTERFACE = "com.bobocode.bibernate.metadata.GeneratedEntityMapper";
+    static final String MAPPER_SUFFIX = "_BibernateMapper";
+    static final String SERVICE_FILE = "META-INF/services/" + MAPPER_INTERFACE;
+
+    private static final String ANNOTATION_PACKAGE = "com.bobocode.bibernate.annotation.";
+    private static final String GENERATED_ATTRIBUTE = "com.bobocode.bibernate.metadata.GeneratedAttribute";
+    private static final String ID_GENERATION = "com.bobocode.bibernate.metadata.IdGeneration";
+    private static final String JDBC_VALUES = "com.bobocode.bibernate.metadata.JdbcValues";
+    private static final String ATTRIBUTE_CONVERTER = "com.bobocode.bibernate.converter.AttributeConverter";
+    private static final String GETTER_PREFIX = "get_";
+    private static final String SETTER_PREFIX = "set_";
+    /**
+     * Names of typed JDBC methods of {@code ResultSet} and {@code PreparedStatement} by primitive type
+     */
+    private static final Map<TypeKind, String> PRIMITIVE_JDBC_NAMES = Map.of(TypeKind.LONG, "Long",
+            TypeKind.INT, "Int", TypeKind.SHORT, "Short", TypeKind.DOUBLE, "Double", TypeKind.FLOAT, "Float",
+            TypeKind.BOOLEAN, "Boolean");
+    /**
+     * Names of null-aware methods of {@code JdbcValues} by wrapper type
+     */
+    private static final Map<String, String> WRAPPER_JDBC_NAMES = Map.of("java.lang.Long", "Long",
+            "java.lang.Integer", "Integer", "java.lang.Short", "Short", "java.lang.Double", "Double",
+            "java.lang.Float", "Float", "java.lang.Boolean", "Boolean");
+    private static final Set<String> TEMPORAL_TYPES = Set.of("java.time.LocalDate", "java.time.LocalTime",
+            "java.time.LocalDateTime", "java.time.OffsetDateTime");
+
+    private final Set<String> generatedMappers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement entityAnnotation = processingEnv.getElementUtils().getTypeElement(ENTITY_ANNOTATION);
+        if (entityAnnotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(entityAnnotation)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                generateMapper((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void generateMapper(TypeElement entity) {
+        Optional<String> unsupportedReason = checkEntityIsSupported(entity);
+        if (unsupportedReason.isPresent()) {
+            note(entity, unsupportedReason.get());
+            return;
+        }
+        List<Attribute> attributes = new ArrayList<>();
+        String idGeneration = "null";
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            Optional<Attribute> attribute = resolveAttribute(entity, field);
+            if (attribute.isEmpty()) {
+                note(entity, "field '%s' is final or has neither non-private access nor accessor methods"
+                        .formatted(field.getSimpleName()));
+                return;
+            }
+            if (attribute.get().id()) {
+                idGeneration = getIdGeneration(field);
+            }
+            attributes.add(attribute.get());
+        }
+        if (attributes.stream().noneMatch(Attribute::id)) {
+            note(entity, "entity class has no field annotated with @Id");
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+        String mapperName = getMapperSimpleName(entity);
+        String qualifiedMapperName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        EntityMapping mapping = new EntityMapping(entity.getQualifiedName().toString(), getTableName(entity),
+                idGeneration, attributes);
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedMapperName, entity);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(renderMapper(packageName, mapperName, mapping));
+            }
+            generatedMappers.add(qualifiedMapperName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate mapper %s: %s".formatted(qualifiedMapperName, e.getMessage()), entity);
+        }
+    }
+
+    private Optional<String> checkEntityIsSupported(TypeElement entity) {
+        Set<Modifier> modifiers = entity.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.ABSTRACT)) {
+            return Optional.of("entity class is private or abstract");
+        }
+        if (entity.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            return Optional.of("entity class is an inner class");
+        }
+        if (!entity.getTypeParameters().isEmpty()) {
+            return Optional.of("entity class is generic");
+        }
+        boolean hasNoArgConstructor = ElementFilter.constructorsIn(entity.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasNoArgConstructor) {
+            return Optional.of("entity class has no non-private no-arg constructor");
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Attribute> resolveAttribute(TypeElement entity, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.empty();
+        }
+        String columnName = findAnnotation(field, "Column")
+                .map(column -> (String) getValue(column, "value"))
+                .orElse(fieldName);
+        String converterType = findAnnotation(field, "Convert")
+                .map(convert -> getErasedName((TypeMirror) getValue(convert, "value")))
+                .orElse(null);
+        boolean id = findAnnotation(field, "Id").isPresent();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return Optional.of(new Attribute(fieldName, columnName, fieldType, id, converterType,
+                    "e." + fieldName, "e." + fieldName + " = %s"));
+        }
+        String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(entity.getEnclosedElements()).stream()
+                .filter(method -> !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC))
+                .toList();
+        Optional<ExecutableElement> getter = methods.stream()
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> isSameType(method.getReturnType(), fieldType))
+                .filter(method -> isGetterName(method.getSimpleName().toString(), fieldName, capitalizedName,
+                        fieldType))
+                .findFirst();
+        Optional<ExecutableElement> setter = methods.stream()
+                .filter(method -> method.getParameters().size() == 1)
+                .filter(method -> isSameType(method.getParameters().get(0).asType(), fieldType))
+                .filter(method -> method.getSimpleName().contentEquals("set" + capitalizedName)
+                        || method.getSimpleName().contentEquals(fieldName))
+                .findFirst();
+        if (getter.isEmpty() || setter.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Attribute(fieldName, columnName, fieldType, id, converterType,
+                "e.%s()".formatted(getter.get().getSimpleName()),
+                "e." + setter.get().getSimpleName() + "(%s)"));
+    }
+
+    private static boolean isGetterName(String methodName, String fieldName, String capitalizedName,
+            TypeMirror fieldType) {
+        return methodName.equals("get" + capitalizedName)
+                || methodName.equals(fieldName)
+                || fieldType.getKind() == TypeKind.BOOLEAN && methodName.equals("is" + capitalizedName);
+    }
+
+    private boolean isSameType(TypeMirror first, TypeMirror second) {
+        return processingEnv.getTypeUtils().isSameType(first, second);
+    }
+
+    /**
+     * Resolves table name the same way as {@code Util.getTableName}: value of {@code @Table} or simple class name in
+     * lower case
+     */
+    private String getTableName(TypeElement entity) {
+        return findAnnotation(entity, "Table")
+                .map(table -> (String) getValue(table, "value"))
+                .orElseGet(() -> entity.getSimpleName().toString().toLowerCase());
+    }
+
+    /**
+     * Renders {@code IdGeneration} of {@code @GeneratedValue} of provided id field, {@code null} if id is assigned by
+     * application
+     */
+    private String getIdGeneration(VariableElement idField) {
+        return findAnnotation(idField, "GeneratedValue")
+                .map(generatedValue -> "new %s(%sGenerationType.%s, %s, %s, %sSequenceOptimizer.%s)".formatted(
+                        ID_GENERATION, ANNOTATION_PACKAGE, getValue(generatedValue, "strategy"),
+                        literal((String) getValue(generatedValue, "sequenceName")),
+                        getValue(generatedValue, "allocationSize"), ANNOTATION_PACKAGE,
+                        getValue(generatedValue, "optimizer")))
+                .orElse("null");
+    }
+
+    private static Optional<AnnotationMirror> findAnnotation(Element element, String simpleName) {
+        String annotationName = ANNOTATION_PACKAGE + simpleName;
+        return element.getAnnotationMirrors().stream()
+                .filter(annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                        .contentEquals(annotationName))
+                .map(AnnotationMirror.class::cast)
+                .findFirst();
+    }
+
+    /**
+     * Returns value of an annotation element, including the default one: a string, a boxed primitive,
+     * a {@link TypeMirror} of a class or a {@link VariableElement} of an enum constant
+     */
+    private Object getValue(AnnotationMirror annotation, String name) {
+        return processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet().stream()
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals(name))
+                .map(entry -> entry.getValue().getValue())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String getErasedName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String getCastType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return getErasedName(type);
+    }
+
+    private static String getMapperSimpleName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, enclosingType.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(MAPPER_SUFFIX).toString();
+    }
+
+    private String renderMapper(String packageName, String mapperName, EntityMapping entity) {
+        String entityName = entity.name();
+        List<Attribute> attributes = entity.attributes();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(EntityMapperProcessor.class.getName())
+                .append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(mapperName)
+                .append(" implements ").append(MAPPER_INTERFACE).append("<").append(entityName).append("> {\n\n")
+                .append("    private static final java.util.List<").append(GENERATED_ATTRIBUTE)
+                .append("> ATTRIBUTES = java.util.List.of(");
+        for (int i = 0; i < attributes.size(); i++) {
+            Attribute attribute = attributes.get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                    .append("            new ").append(GENERATED_ATTRIBUTE).append("(")
+                    .append(literal(attribute.name())).append(", ")
+                    .append(literal(attribute.columnName())).append(", ")
+                    .append(getErasedName(attribute.type())).append(".class, ")
+                    .append(attribute.id()).append(", ")
+                    .append(attribute.converterType() == null ? "null" : attribute.converterType() + ".class")
+                    .append(")");
+        }
+        source.append(");\n")
+                .append("    private static final ").append(ID_GENERATION).append(" ID_GENERATION = ")
+                .append(entity.idGeneration()).append(";\n\n");
+
+        for (Attribute attribute : attributes) {
+            source.append("    public static ").append(attribute.type()).append(" ").append(GETTER_PREFIX)
+                    .append(attribute.name()).append("(").append(entityName).append(" e) {\n")
+                    .append("        return ").append(attribute.getter()).append(";\n")
+                    .append("    }\n\n")
+                    .append("    public static void ").append(SETTER_PREFIX).append(attribute.name()).append("(")
+                    .append(entityName).append(" e, ").append(attribute.type()).append(" value) {\n")
+                    .append("        ").append(attribute.setter().formatted("value")).append(";\n")
+                    .append("    }\n\n");
+        }
+
+        source.append("    @Override\n")
+                .append("    public Class<").append(entityName).append("> getEntityType() {\n")
+                .append("        return ").append(entityName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String getTableName() {\n")
+                .append("        return ").append(literal(entity.tableName())).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<").append(GENERATED_ATTRIBUTE).append("> getAttributes() {\n")
+                .append("        return ATTRIBUTES;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(ID_GENERATION).append(" getIdGeneration() {\n")
+                .append("        return ID_GENERATION;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(entityName).append(" newInstance() {\n")
+                .append("        return new ").append(entityName).append("();\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(entityName).append(" hydrate(java.sql.ResultSet rs, int[] columnIndexes, ")
+                .append(ATTRIBUTE_CONVERTER).append("<?>[] converters)\n")
+                .append("            throws java.sql.SQLException {\n")
+                .append("        ").append(entityName).append(" e = new ").append(entityName).append("();\n");
+        for (int i = 0; i < attributes.size(); i++) {
+            Attribute attribute = attributes.get(i);
+            source.append("        ").append(SETTER_PREFIX).append(attribute.name()).append("(e, ")
+                    .append(renderRead(attribute, "columnIndexes[" + i + "]", i)).append(");\n");
+        }
+        source.append("        return e;\n")
+                .append("    }\n\n");
+
+        renderBindMethod(source, "bindAll", entityName, attributes, attribute -> true);
+        renderBindMethod(source, "bindNonId", entityName, attributes, attribute -> !attribute.id());
+        source.append("    @Override\n")
+                .append("    public int bindId(java.sql.PreparedStatement ps, int index, ").append(entityName)
+                .append(" e, ").append(ATTRIBUTE_CONVERTER).append("<?>[] converters)\n")
+                .append("            throws java.sql.SQLException {\n");
+        for (int i = 0; i < attributes.size(); i++) {
+            if (attributes.get(i).id()) {
+                source.append("        ").append(renderBind(attributes.get(i), "index", i)).append(";\n");
+            }
+        }
+        source.append("        return index + 1;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Object[] snapshot(").append(entityName).append(" e) {\n")
+                .append("        return new Object[]{");
+        for (int i = 0; i < attributes.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(GETTER_PREFIX).append(attributes.get(i).name()).append("(e)");
+        }
+        source.append("};\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public boolean isDirty(").append(entityName).append(" e, Object[] snapshot) {\n")
+                .append("        return ");
+        for (int i = 0; i < attributes.size(); i++) {
+            source.append(i == 0 ? "" : "\n                || ").append(renderChanged(attributes.get(i), i));
+        }
+        source.append(";\n")
+                .append("    }\n");
+
+        if (attributes.stream().anyMatch(attribute -> attribute.converterType() != null)) {
+            source.append("\n")
+                    .append("    private static Object toEntityAttribute(").append(ATTRIBUTE_CONVERTER)
+                    .append(" converter, Object value) {\n")
+                    .append("        return converter.isConvertable(value) ? converter.convertToEntityAttribute(value)")
+                    .append(" : value;\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private void renderBindMethod(StringBuilder source, String methodName, String entityName,
+            List<Attribute> attributes, Predicate<Attribute> filter) {
+        source.append("    @Override\n")
+                .append("    public int ").append(methodName).append("(java.sql.PreparedStatement ps, int index, ")
+                .append(entityName).append(" e, ").append(ATTRIBUTE_CONVERTER).append("<?>[] converters)\n")
+                .append("            throws java.sql.SQLException {\n");
+        for (int i = 0; i < attributes.size(); i++) {
+            if (filter.test(attributes.get(i))) {
+                source.append("        ").append(renderBind(attributes.get(i), "index++", i)).append(";\n");
+            }
+        }
+        source.append("        return index;\n")
+                .append("    }\n\n");
+    }
+
+    /**
+     * Renders expression reading column value of provided attribute the same way as {@code TypeHandler} does:
+     * with typed getters of {@code ResultSet} or null-aware getters of {@code JdbcValues}
+     */
+    private String renderRead(Attribute attribute, String columnIndex, int attributeIndex) {
+        TypeMirror type = attribute.type();
+        String typeName = getErasedName(type);
+        if (attribute.converterType() != null) {
+            return "(%s) toEntityAttribute(converters[%d], rs.getObject(%s))"
+                    .formatted(getCastType(type), attributeIndex, columnIndex);
+        } else if (PRIMITIVE_JDBC_NAMES.containsKey(type.getKind())) {
+            return "rs.get%s(%s)".formatted(PRIMITIVE_JDBC_NAMES.get(type.getKind()), columnIndex);
+        } else if (WRAPPER_JDBC_NAMES.containsKey(typeName)) {
+            return "%s.get%s(rs, %s)".formatted(JDBC_VALUES, WRAPPER_JDBC_NAMES.get(typeName), columnIndex);
+        } else if (typeName.equals("java.lang.String")) {
+            return "rs.getString(%s)".formatted(columnIndex);
+        } else if (typeName.equals("java.math.BigDecimal")) {
+            return "rs.getBigDecimal(%s)".formatted(columnIndex);
+        } else if (TEMPORAL_TYPES.contains(typeName)) {
+            return "rs.getObject(%s, %s.class)".formatted(columnIndex, typeName);
+        } else if (typeName.equals("java.time.ZonedDateTime")) {
+            return "%s.getZonedDateTime(rs, %s)".formatted(JDBC_VALUES, columnIndex);
+        }
+        return "(%s) rs.getObject(%s)".formatted(getCastType(type), columnIndex);
+    }
+
+    /**
+     * Renders statement binding value of provided attribute the same way as {@code TypeHandler} does: with typed
+     * setters of {@code PreparedStatement} or null-aware setters of {@code JdbcValues}
+     */
+    private String renderBind(Attribute attribute, String parameterIndex, int attributeIndex) {
+        TypeMirror type = attribute.type();
+        String typeName = getErasedName(type);
+        String value = GETTER_PREFIX + attribute.name() + "(e)";
+        if (attribute.converterType() != null) {
+            return "ps.setObject(%s, ((%s) converters[%d]).convertToDatabaseColumn(%s))"
+                    .formatted(parameterIndex, ATTRIBUTE_CONVERTER, attributeIndex, value);
+        } else if (PRIMITIVE_JDBC_NAMES.containsKey(type.getKind())) {
+            return "ps.set%s(%s, %s)".formatted(PRIMITIVE_JDBC_NAMES.get(type.getKind()), parameterIndex, value);
+        } else if (WRAPPER_JDBC_NAMES.containsKey(typeName)) {
+            return "%s.set%s(ps, %s, %s)".formatted(JDBC_VALUES, WRAPPER_JDBC_NAMES.get(typeName), parameterIndex,
+                    value);
+        } else if (typeName.equals("java.lang.String")) {
+            return "ps.setString(%s, %s)".formatted(parameterIndex, value);
+        } else if (typeName.equals("java.math.BigDecimal")) {
+            return "ps.setBigDecimal(%s, %s)".formatted(parameterIndex, value);
+        } else if (typeName.equals("java.time.ZonedDateTime")) {
+            return "%s.setZonedDateTime(ps, %s, %s)".formatted(JDBC_VALUES, parameterIndex, value);
+        }
+        return "ps.setObject(%s, %s)".formatted(parameterIndex, value);
+    }
+
+    /**
+     * Renders condition that value of provided attribute differs from the snapshot one. Integral and boolean values
+     * are compared with {@code !=}, floating point values with {@code compare}, other values with {@code equals}
+     */
+    private String renderChanged(Attribute attribute, int attributeIndex) {
+        TypeMirror type = attribute.type();
+        String value = GETTER_PREFIX + attribute.name() + "(e)";
+        String snapshotValue = "(%s) snapshot[%d]".formatted(getCastType(type), attributeIndex);
+        return switch (type.getKind()) {
+            case DOUBLE, FLOAT -> "%s.compare(%s, %s) != 0".formatted(getCastType(type), value, snapshotValue);
+            case LONG, INT, SHORT, BYTE, CHAR, BOOLEAN -> "%s != (%s)".formatted(value, snapshotValue);
+            default -> "!java.util.Objects.equals(%s, snapshot[%d])".formatted(value, attributeIndex);
+        };
+    }
+
+    /**
+     * Renders Java string literal of provided value
+     */
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void writeServiceFile() {
+        if (generatedMappers.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject serviceFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String mapper : generatedMappers) {
+                    writer.write(mapper);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write %s: %s".formatted(SERVICE_FILE, e.getMessage()));
+        }
+    }
+
+    private void note(TypeElement entity, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Mapper for %s is not generated, reflection will be used: %s"
+                        .formatted(entity.getQualifiedName(), reason), entity);
+    }
+
+    /**
+     * @param idGeneration rendered {@code IdGeneration} expression
+     */
+    private record EntityMapping(String name, String tableName, String idGeneration, List<Attribute> attributes) {
+    }
+
+    /**
+     * @param getter expression reading the attribute of entity {@code e}
+     * @param setter format of statement writing provided value to the attribute of entity {@code e}
+     */
+    private record Attribute(String name, String columnName, TypeMirror type, boolean id, String converterType,
+                             String getter, String setter) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.bobocode.bibernate.processor;
+
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.annotation.SequenceOptimizer;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.metadata.GeneratedAttribute;
+import com.bobocode.bibernate.metadata.GeneratedEntityMapper;
+import com.bobocode.bibernate.metadata.IdGeneration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class EntityMapperProcessorTest {
+
+    private static final String PRODUCT_SOURCE = """
+            package shop;
+
+            import com.bobocode.bibernate.annotation.Column;
+            import com.bobocode.bibernate.annotation.Convert;
+            import com.bobocode.bibernate.annotation.Entity;
+            import com.bobocode.bibernate.annotation.GeneratedValue;
+            import com.bobocode.bibernate.annotation.GenerationType;
+            import com.bobocode.bibernate.annotation.Id;
+            import com.bobocode.bibernate.annotation.Table;
+            import com.bobocode.bibernate.converter.AttributeConverter;
+
+            @Entity
+            @Table("products")
+            public class Product {
+                @Id
+                @GeneratedValue(strategy = GenerationType.SEQUENCE, sequenceName = "product_seq", allocationSize = 10)
+                private Long id;
+                private String name;
+                int quantity;
+                @Column("unit_price")
+                double price;
+                private boolean available;
+                @Convert(StatusConverter.class)
+                Status status;
+                java.time.LocalDate addedOn;
+
+                public Long getId() { return id; }
+                public void setId(Long id) { this.id = id; }
+                public String name() { return name; }
+                public Product name(String name) { this.name = name; return this; }
+                public boolean isAvailable() { return available; }
+                public void setAvailable(boolean available) { this.available = available; }
+
+                public enum Status { ACTIVE, ARCHIVED }
+
+                public static class StatusConverter implements AttributeConverter<Status> {
+                    @Override
+                    public Status convertToEntityAttribute(Object dbData) { return Status.valueOf((String) dbData); }
+                    @Override
+                    public Object convertToDatabaseColumn(Status attribute) {
+                        return attribute == null ? null : attribute.name();
+                    }
+                    @Override
+                    public boolean isConvertable(Object value) { return value instanceof String; }
+                }
+            }
+            """;
+
+    private static final String NOT_ACCESSIBLE_SOURCE = """
+            package shop;
+
+            import com.bobocode.bibernate.annotation.Entity;
+            import com.bobocode.bibernate.annotation.Id;
+
+            @Entity
+            public class Hidden {
+                @Id
+                private Long id;
+            }
+            """;
+
+    private static final String WITHOUT_ID_SOURCE = """
+            package shop;
+
+            import com.bobocode.bibernate.annotation.Entity;
+
+            @Entity
+            public class Anonymous {
+                Long id;
+            }
+            """;
+
+    private static final String CREATE_PRODUCTS_TABLE = """
+            create table products (id bigint primary key, name varchar(255), quantity int, unit_price double,
+                                   available boolean, status varchar(16), addedOn date)
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Generates mapper with attributes resolved from mapping annotations and typed static accessors")
+    void generatesMapper() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("shop/Product.java", PRODUCT_SOURCE);
+
+        assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+        Path classes = tempDir.resolve("classes");
+        assertThat(Files.readString(classes.resolve(EntityMapperProcessor.SERVICE_FILE)))
+                .isEqualTo("shop.Product_BibernateMapper\n");
+
+        try (URLClassLoader classLoader = createClassLoader()) {
+            Class<?> mapperType = classLoader.loadClass("shop.Product_BibernateMapper");
+            Class<?> productType = classLoader.loadClass("shop.Product");
+            GeneratedEntityMapper<?> mapper = (GeneratedEntityMapper<?>) mapperType.getConstructor().newInstance();
+
+            assertThat(mapper.getEntityType()).isSameAs(productType);
+            assertThat(mapper.getTableName()).isEqualTo("products");
+            assertThat(mapper.getIdGeneration())
+                    .isEqualTo(new IdGeneration(GenerationType.SEQUENCE, "product_seq", 10, SequenceOptimizer.POOLED));
+            assertThat(mapper.getAttributes())
+                    .extracting(GeneratedAttribute::name, GeneratedAttribute::columnName, GeneratedAttribute::type,
+                            GeneratedAttribute::id)
+                    .containsExactly(
+                            tuple("id", "id", Long.class, true),
+                            tuple("name", "name", String.class, false),
+                            tuple("quantity", "quantity", int.class, false),
+                            tuple("price", "unit_price", double.class, false),
+                            tuple("available", "available", boolean.class, false),
+                            tuple("status", "status", classLoader.loadClass("shop.Product$Status"), false),
+                            tuple("addedOn", "addedOn", LocalDate.class, false));
+            assertThat(mapper.getAttributes().get(5).converterType())
+                    .isSameAs(classLoader.loadClass("shop.Product$StatusConverter"));
+            assertThat(mapperType.getMethod("get_quantity", productType).getReturnType()).isSameAs(int.class);
+            assertThat(mapperType.getMethod("set_price", productType, double.class)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Maps entity through generated mapper found by metadata registry")
+    void mapsEntityThroughGeneratedMapper() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("shop/Product.java", PRODUCT_SOURCE);
+        assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR);
+
+        try (URLClassLoader classLoader = createClassLoader();
+             Connection connection = DriverManager.getConnection("jdbc:h2:mem:generated_mapper")) {
+            EntityMetadata<?> metadata = new EntityMetadataRegistry(classLoader)
+                    .getMetadata(classLoader.loadClass("shop.Product"));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_PRODUCTS_TABLE);
+            }
+            Object product = metadata.newInstance();
+            List<Object> values = List.of(1L, "knife", 3, 2.5, true, statusOf(classLoader, "ACTIVE"),
+                    LocalDate.of(2022, 9, 1));
+            for (int i = 0; i < values.size(); i++) {
+                metadata.getAttributes().get(i).setValue(product, values.get(i));
+            }
+            try (PreparedStatement statement = connection.prepareStatement(metadata.getQueries().insert())) {
+                metadata.bindInsertParameters(statement, 1, product);
+                statement.executeUpdate();
+            }
+
+            Object found = selectById(connection, metadata, product);
+
+            assertThat(metadata.getGeneratedMapper()).isNotNull();
+            assertThat(metadata.getAttributes())
+                    .extracting(attribute -> attribute.getValue(found))
+                    .containsExactlyElementsOf(values);
+
+            Object[] snapshot = metadata.getSnapshot(found);
+            assertThat(metadata.isDirty(found, snapshot)).isFalse();
+            EntityAttribute price = metadata.getAttribute("price");
+            price.setValue(found, 3.0);
+            metadata.getAttribute("status").setValue(found, statusOf(classLoader, "ARCHIVED"));
+            assertThat(metadata.isDirty(found, snapshot)).isTrue();
+
+            try (PreparedStatement statement = connection.prepareStatement(metadata.getQueries().updateById())) {
+                metadata.bindUpdateParameters(statement, 1, found);
+                statement.executeUpdate();
+            }
+
+            Object updated = selectById(connection, metadata, product);
+            assertThat(price.getValue(updated)).isEqualTo(3.0);
+            assertThat(metadata.getAttribute("status").getValue(updated)).hasToString("ARCHIVED");
+        }
+    }
+
+    @Test
+    @DisplayName("Skips entity with inaccessible field so reflection is used for it")
+    void skipsEntityWithInaccessibleField() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("shop/Hidden.java", NOT_ACCESSIBLE_SOURCE);
+
+        assertThat(diagnostics.getDiagnostics())
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                        && d.getMessage(null).contains("Mapper for shop.Hidden is not generated"));
+        assertThat(tempDir.resolve("classes").resolve("shop/Hidden_BibernateMapper.class")).doesNotExist();
+        assertThat(tempDir.resolve("classes").resolve(EntityMapperProcessor.SERVICE_FILE)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Skips entity without id field so reflection reports mapping error for it")
+    void skipsEntityWithoutId() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("shop/Anonymous.java", WITHOUT_ID_SOURCE);
+
+        assertThat(diagnostics.getDiagnostics())
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                        && d.getMessage(null).contains("entity class has no field annotated with @Id"));
+        assertThat(tempDir.resolve("classes").resolve("shop/Anonymous_BibernateMapper.class")).doesNotExist();
+    }
+
+    private static Object selectById(Connection connection, EntityMetadata<?> metadata, Object entity)
+            throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(metadata.getQueries().selectById())) {
+            metadata.bindIdParameter(statement, 1, entity);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                return metadata.getRowMapper(resultSet).mapRow(resultSet);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object statusOf(ClassLoader classLoader, String name) throws ClassNotFoundException {
+        return Enum.valueOf((Class) classLoader.loadClass("shop.Product$Status"), name);
+    }
+
+    private URLClassLoader createClassLoader() throws IOException {
+        return new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(String fileName, String source) throws IOException {
+        Path sourceFile = tempDir.resolve("src").resolve(fileName);
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source);
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjects(sourceFile));
+            task.setProcessors(List.of(new EntityMapperProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+}
@@ -1,142 +1,335 @@
 package com.bobocode.bibernate;
 
-import static com.bobocode.bibernate.Util.getColumnName;
-
-import com.bobocode.bibernate.converter.AttributeConverter;
-import com.bobocode.bibernate.converter.LocalDateTimeTypeConverter;
-import com.bobocode.bibernate.converter.LocalDateTypeConverter;
-import com.bobocode.bibernate.converter.LocalTimeTypeConverter;
-import com.bobocode.bibernate.converter.ZonedDateTimeTypeConverter;
 import com.bobocode.bibernate.exception.BibernateSQLException;
-import com.bobocode.bibernate.exception.EntityMappingException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityRowMapper;
+import com.bobocode.bibernate.metadata.ProjectionMapper;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
-public class EntityPersister {
+public class EntityPersister implements AutoCloseable {
 
     private final Connection connection;
+    @Getter
+    private final StatementCache statementCache;
+    private final Set<Cursor<?>> openCursors = new LinkedHashSet<>();
+    /**
+     * Statement of the select being executed, it can be {@link #cancel() cancelled} from another thread
+     */
+    private volatile PreparedStatement executingStatement;
 
-    private final Map<Class<?>, Supplier<AttributeConverter<?>>> CONVERTERS =
-            Map.of(LocalDate.class, LocalDateTypeConverter::new,
-                    LocalTime.class, LocalTimeTypeConverter::new,
-                    LocalDateTime.class, LocalDateTimeTypeConverter::new,
-                    ZonedDateTime.class, ZonedDateTimeTypeConverter::new);
+    public EntityPersister(Connection connection, int statementCacheSize) {
+        this.connection = connection;
+        this.statementCache = new StatementCache(connection, statementCacheSize);
+    }
 
-    public <T> List<T> select(Class<T> type, String query, List<Object> columnValuesToFilter) {
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            for (int i = 0; i < columnValuesToFilter.size(); i++) {
-                statement.setObject(i + 1, columnValuesToFilter.get(i));
+    public <T> List<T> select(EntityMetadata<T> metadata, String query, List<Object> columnValuesToFilter) {
+        return select(metadata, query, ParameterBinder.of(columnValuesToFilter));
+    }
+
+    /**
+     * Selects entities binding query parameters with provided binder
+     */
+    public <T> List<T> select(EntityMetadata<T> metadata, String query, ParameterBinder parameterBinder) {
+        return query(query, parameterBinder, resultSet -> mapResultSetToEntityList(metadata, resultSet));
+    }
+
+    /**
+     * Selects rows of a projection query and maps them to records
+     */
+    public <R> List<R> select(ProjectionMapper<R> projectionMapper, String query, List<Object> columnValuesToFilter) {
+        return select(projectionMapper, query, ParameterBinder.of(columnValuesToFilter));
+    }
+
+    /**
+     * Selects rows of a projection query binding its parameters with provided binder
+     */
+    public <R> List<R> select(ProjectionMapper<R> projectionMapper, String query, ParameterBinder parameterBinder) {
+        return query(query, parameterBinder, resultSet -> {
+            List<R> resultList = new ArrayList<>();
+            while (resultSet.next()) {
+                resultList.add(projectionMapper.mapRow(resultSet));
             }
-            log.trace(statement.toString());
+            return resultList;
+        });
+    }
 
-            ResultSet resultSet = statement.executeQuery();
-            return processResultSet(type, resultSet);
+    /**
+     * Executes provided query with cached statement and handles its result set
+     * @param query      SQL query
+     * @param parameters values of query parameters
+     * @param handler    reads result of the query from result set
+     */
+    public <R> R query(String query, List<Object> parameters, ResultSetHandler<R> handler) {
+        return query(query, ParameterBinder.of(parameters), handler);
+    }
+
+    /**
+     * Executes provided query with cached statement binding its parameters with provided binder
+     */
+    public <R> R query(String query, ParameterBinder parameterBinder, ResultSetHandler<R> handler) {
+        try {
+            PreparedStatement statement = statementCache.prepare(query);
+            try {
+                parameterBinder.bind(statement, 1);
+                log.trace(statement.toString());
+                executingStatement = statement;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return processResultSet(handler, resultSet);
+                }
+            } finally {
+                executingStatement = null;
+                statementCache.release(statement);
+            }
         } catch (SQLException e) {
             throw new BibernateSQLException("Error loading data from DB", e);
         }
     }
 
-    private <T> List<T> processResultSet(Class<T> type, ResultSet resultSet) {
+    private static <R> R processResultSet(ResultSetHandler<R> handler, ResultSet resultSet) {
         try {
-            return mapResultSetToEntityList(type, resultSet);
+            return handler.handle(resultSet);
         } catch (SQLException e) {
             throw new BibernateSQLException("Error parsing data got from DB", e);
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException |
-                InvocationTargetException e) {
-            throw new EntityMappingException("Entity mapping error", e);
         }
     }
 
-    @SuppressWarnings("java:S3011")
-    private <T> List<T> mapResultSetToEntityList(Class<T> type, ResultSet resultSet)
-            throws SQLException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+    private <T> List<T> mapResultSetToEntityList(EntityMetadata<T> metadata, ResultSet resultSet) throws SQLException {
+        EntityRowMapper<T> rowMapper = metadata.getRowMapper(resultSet);
         List<T> resultList = new ArrayList<>();
         while (resultSet.next()) {
-            T obj = type.getConstructor().newInstance();
-            Field[] fields = type.getDeclaredFields();
-            for (Field field : fields) {
-                String columnName = getColumnName(field);
-                Object value = resultSet.getObject(columnName);
-                field.setAccessible(true);
-                field.set(obj, convertToJavaType(field, value));
-            }
-            resultList.add(obj);
+            resultList.add(rowMapper.mapRow(resultSet));
         }
         return resultList;
     }
 
-    public void insert(String query, List<Object> valuesToInsert) {
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            for (int i = 0; i < valuesToInsert.size(); i++) {
-                statement.setObject(i + 1, valuesToInsert.get(i));
+    public int insert(String query, ParameterBinder parameterBinder) {
+        try {
+            return executeUpdate(query, parameterBinder);
+        } catch (SQLException e) {
+            throw new BibernateSQLException("Error inserting data from DB", e);
+        }
+    }
+
+    /**
+     * Executes provided insert and reads value of the key column generated by database
+     * @param keyColumn  name of the generated column
+     * @param keyHandler reads generated key from the result set of {@link PreparedStatement#getGeneratedKeys()}
+     */
+    public <K> K insert(String query, ParameterBinder parameterBinder, String keyColumn, ResultSetHandler<K> keyHandler) {
+        try {
+            PreparedStatement statement = statementCache.prepare(query, new String[]{keyColumn});
+            try {
+                parameterBinder.bind(statement, 1);
+                log.trace(statement.toString());
+                statement.executeUpdate();
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    return processResultSet(keyHandler, generatedKeys);
+                }
+            } finally {
+                statementCache.release(statement);
             }
-            log.trace(statement.toString());
-            statement.executeUpdate();
         } catch (SQLException e) {
             throw new BibernateSQLException("Error inserting data from DB", e);
         }
     }
 
-    public void delete(String query, Object id) {
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setObject(1, id);
-            log.trace(statement.toString());
-            statement.executeUpdate();
+    public int delete(String query, ParameterBinder parameterBinder) {
+        try {
+            return executeUpdate(query, parameterBinder);
         } catch (SQLException e) {
             throw new BibernateSQLException("Error deleting data from DB", e);
         }
     }
 
-    public void update(String updateQuery, List<Object> updatedColumValues, List<Object> columnsValuesToFilter) {
-        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
-            setValuesForUpdateStatement(updatedColumValues, columnsValuesToFilter, statement);
-            log.trace(statement.toString());
-            statement.executeUpdate();
+    public int update(String updateQuery, ParameterBinder parameterBinder) {
+        try {
+            return executeUpdate(updateQuery, parameterBinder);
         } catch (SQLException e) {
             throw new BibernateSQLException("Error updating data in DB", e);
         }
     }
 
-    private static void setValuesForUpdateStatement(List<Object> updatedColumValues,
-            List<Object> columnsValuesToFilter,
-            PreparedStatement statement) throws SQLException {
-        int i = 0;
-        while (i < updatedColumValues.size()) {
-            statement.setObject(i + 1, updatedColumValues.get(i));
-            i++;
+    /**
+     * Executes provided query and returns stream that maps rows of the open result set to entities lazily.
+     * The statement is not cached, it is closed together with the stream, when all rows are read, or when the
+     * persister is closed.
+     * @param fetchSize number of rows fetched from DB at once, {@code 0} leaves the driver default
+     * @param processor applied to every mapped entity, e.g. to put it in persistence context
+     * @param onClose   executed after result set and statement are closed
+     */
+    public <T> Stream<T> stream(EntityMetadata<T> metadata, String query, List<Object> parameters, int fetchSize,
+            UnaryOperator<T> processor, Runnable onClose) {
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            ParameterBinder.of(parameters).bind(statement, 1);
+            log.trace(statement.toString());
+            ResultSet resultSet = statement.executeQuery();
+            Cursor<T> cursor = new Cursor<>(statement, resultSet, metadata.getRowMapper(resultSet), processor, onClose);
+            openCursors.add(cursor);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            onClose.run();
+            throw new BibernateSQLException("Error loading data from DB", e);
+        }
+    }
+
+    /**
+     * Cancels select that is being executed by another thread, if any. The cancelled select fails with
+     * {@link BibernateSQLException}
+     */
+    public void cancel() {
+        PreparedStatement statement = executingStatement;
+        if (statement != null) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.warn("Failed to cancel statement", e);
+            }
+        }
+    }
+
+    /**
+     * Closes all cached statements and statements of unclosed streams
+     */
+    @Override
+    public void close() {
+        List.copyOf(openCursors).forEach(Cursor::close);
+        statementCache.close();
+    }
+
+    private static void clearBatch(PreparedStatement statement, Exception cause) {
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close {}", closeable, e);
+            }
+        }
+    }
+
+    /**
+     * Executes provided statement once for every parameter binder in a single JDBC batch. When binding or execution
+     * fails, the batch of the cached statement is cleared, so rows added before the failure are not sent by the next
+     * batch of the same SQL.
+     * @return update counts in the order of binders
+     */
+    public int[] executeBatch(String query, List<ParameterBinder> parameterBinders) {
+        try {
+            PreparedStatement statement = statementCache.prepare(query);
+            try {
+                for (ParameterBinder parameterBinder : parameterBinders) {
+                    parameterBinder.bind(statement, 1);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            } catch (SQLException | RuntimeException e) {
+                clearBatch(statement, e);
+                throw e;
+            } finally {
+                statementCache.release(statement);
+            }
+        } catch (SQLException e) {
+            throw new BibernateSQLException("Error executing batch in DB", e);
         }
-        int j = 0;
-        while (j < columnsValuesToFilter.size()) {
-            statement.setObject(i + 1, columnsValuesToFilter.get(j));
-            i++;
-            j++;
+    }
+
+    private int executeUpdate(String query, ParameterBinder parameterBinder) throws SQLException {
+        PreparedStatement statement = statementCache.prepare(query);
+        try {
+            parameterBinder.bind(statement, 1);
+            log.trace(statement.toString());
+            return statement.executeUpdate();
+        } finally {
+            statementCache.release(statement);
         }
     }
 
-    private Object convertToJavaType(Field field, Object value) throws IllegalAccessException {
-        Supplier<AttributeConverter<?>> converterSupplier = CONVERTERS.get(field.getType());
-        if (converterSupplier != null) {
-            AttributeConverter<?> converter = converterSupplier.get();
-            if (converter.isConvertable(value)) {
-                return converter.convertToEntityAttribute(value);
+    /**
+     * Reads result of a query from its result set
+     * @param <R> type of result
+     */
+    @FunctionalInterface
+    public interface ResultSetHandler<R> {
+        R handle(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Spliterator over rows of an open result set. Releases JDBC resources once, when all rows are read or the stream
+     * is closed.
+     */
+    private class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final EntityRowMapper<T> rowMapper;
+        private final UnaryOperator<T> processor;
+        private final Runnable onClose;
+        private boolean closed;
+
+        Cursor(PreparedStatement statement, ResultSet resultSet, EntityRowMapper<T> rowMapper,
+                UnaryOperator<T> processor, Runnable onClose) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.statement = statement;
+            this.resultSet = resultSet;
+            this.rowMapper = rowMapper;
+            this.processor = processor;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!resultSet.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(processor.apply(rowMapper.mapRow(resultSet)));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new BibernateSQLException("Error parsing data got from DB", e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
             }
+            closed = true;
+            openCursors.remove(this);
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            onClose.run();
         }
-        return value;
     }
 }
@@ -0,0 +1,32 @@
+package com.bobocode.bibernate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Binds parameters of a {@link PreparedStatement}. Entity statements bind attribute values with typed JDBC setters
+ * of {@link com.bobocode.bibernate.metadata.TypeHandler type handlers}, so values are not collected into lists
+ * and primitives are not boxed.
+ */
+@FunctionalInterface
+public interface ParameterBinder {
+
+    /**
+     * Binds parameters starting from provided index
+     * @param statement  statement to bind parameters to
+     * @param startIndex index of the first parameter
+     */
+    void bind(PreparedStatement statement, int startIndex) throws SQLException;
+
+    /**
+     * Creates binder that binds provided values with {@link PreparedStatement#setObject(int, Object)}
+     */
+    static ParameterBinder of(List<?> values) {
+        return (statement, startIndex) -> {
+            for (int i = 0; i < values.size(); i++) {
+                statement.setObject(startIndex + i, values.get(i));
+            }
+        };
+    }
+}
@@ -1,20 +1,36 @@
 package com.bobocode.bibernate;
 
-import java.lang.reflect.Field;
-import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.Comparator;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.tracking.DirtinessListener;
+import com.bobocode.bibernate.tracking.SelfDirtinessTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * Managed entities of a session keyed by type and id.
+ * <p>
+ * State of a managed entity is saved as a snapshot of its attribute values, and flush compares entities with their
+ * snapshots. {@link SelfDirtinessTracker Self-tracking} entities are not snapshotted: they report their changes to the
+ * context, so finding dirty entities visits only the changed ones.
+ */
 public class PersistenceContext {
 
+    private final EntityMetadataRegistry metadataRegistry;
     private final Map<EntityKey, Object> entityCacheMap = new HashMap<>();
     private final Map<EntityKey, Object[]> entitySnapshotMap = new HashMap<>();
+    private final Set<Object> dirtyTrackedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final DirtinessListener dirtinessListener = dirtyTrackedEntities::add;
+
+    public PersistenceContext(EntityMetadataRegistry metadataRegistry) {
+        this.metadataRegistry = metadataRegistry;
+    }
 
     public <T> Optional<T> getEntity(Class<T> type, Object key) {
         EntityKey entityKey = new EntityKey(type, key);
@@ -31,53 +47,85 @@ public class PersistenceContext {
         entityCacheMap.put(entityKey, entity);
     }
 
+    /**
+     * Saves current state of provided entity as its snapshot. A {@link SelfDirtinessTracker self-tracking} entity is
+     * marked clean and starts reporting its changes to this context instead
+     */
     public void putEntitySnapshot(Object entity, Object key) {
+        if (entity instanceof SelfDirtinessTracker tracker) {
+            dirtyTrackedEntities.remove(entity);
+            tracker.setDirtinessListener(dirtinessListener);
+            return;
+        }
         Class<?> type = entity.getClass();
         EntityKey entityKey = new EntityKey(type, key);
-        Object[] values = Arrays.stream(entity.getClass().getDeclaredFields()).sorted(Comparator.comparing(Field::getName))
-                .map(f -> Util.getValueFromField(f, entity))
-                .toArray();
-        entitySnapshotMap.put(entityKey, values);
+        entitySnapshotMap.put(entityKey, metadataRegistry.getMetadata(type).getSnapshot(entity));
     }
 
-    public Map<Object, Map<String, Object>> getUpdatedEntitiesColumnsMap() {
-        return entityCacheMap.entrySet()
-                .stream()
-                .map(a -> new AbstractMap.SimpleEntry<>(a.getValue(), getUpdatedColumnsWithValues(a.getKey(), a.getValue())))
-                .filter(a -> !a.getValue().isEmpty())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private Map<String, Object> getUpdatedColumnsWithValues(EntityKey entityKey, Object entity) {
-        Object[] snapshotValues = entitySnapshotMap.get(entityKey);
-        if (snapshotValues == null) {
-            return Map.of();
+    /**
+     * Marks provided managed {@link SelfDirtinessTracker self-tracking} entity as changed when its state is changed
+     * bypassing its setters, e.g. by merge. Snapshotted entities need no marking
+     */
+    public void markDirty(Object entity) {
+        if (entity instanceof SelfDirtinessTracker) {
+            dirtyTrackedEntities.add(entity);
         }
-        List<Field> entityFields = Arrays.stream(entity.getClass().getDeclaredFields())
-                .sorted(Comparator.comparing(Field::getName))
-                .toList();
-
-        return getUpdatedColumnsWithValuesMap(entity, snapshotValues, entityFields);
     }
 
-    private static Map<String, Object> getUpdatedColumnsWithValuesMap(Object entity, Object[] snapshotValues, List<Field> entityFields) {
-        Map<String, Object> updatedColumnsToValuesMap = new HashMap<>();
-        for (int i = 0; i < entityFields.size(); i++) {
-            Field entityField = entityFields.get(i);
-            Object entityFieldValue = Util.getValueFromField(entityField, entity);
-            Object snapshotFieldValue = snapshotValues[i];
-            if (Objects.equals(entityFieldValue, snapshotFieldValue)) {
-                continue;
+    /**
+     * Returns self-tracking entities marked dirty and snapshotted managed entities which state differs from their
+     * snapshots
+     */
+    public List<Object> getDirtyEntities() {
+        List<Object> dirtyEntities = new ArrayList<>(dirtyTrackedEntities);
+        entitySnapshotMap.forEach((entityKey, snapshotValues) -> {
+            Object entity = entityCacheMap.get(entityKey);
+            if (entity != null && metadataRegistry.getMetadata(entity.getClass()).isDirty(entity, snapshotValues)) {
+                dirtyEntities.add(entity);
             }
-            updatedColumnsToValuesMap.put(Util.getColumnName(entityField), entityFieldValue);
-        }
-        return updatedColumnsToValuesMap;
+        });
+        return dirtyEntities;
     }
 
     public <T> void evict(T entity, Object key) {
         EntityKey entityKey = new EntityKey(entity.getClass(), key);
         entityCacheMap.remove(entityKey, entity);
         entitySnapshotMap.remove(entityKey);
+        stopTracking(entity);
+    }
+
+    /**
+     * Removes all entities of provided type and their snapshots, e.g. after a bulk statement changed their rows
+     * @return number of evicted entities
+     */
+    public int evictAll(Class<?> type) {
+        entitySnapshotMap.keySet().removeIf(entityKey -> entityKey.type() == type);
+        int size = entityCacheMap.size();
+        entityCacheMap.entrySet().removeIf(entry -> {
+            if (entry.getKey().type() != type) {
+                return false;
+            }
+            stopTracking(entry.getValue());
+            return true;
+        });
+        return size - entityCacheMap.size();
+    }
+
+    /**
+     * Removes all entities and their snapshots, e.g. when the session is closed, so self-tracking entities no longer
+     * refer to this context
+     */
+    public void clear() {
+        entityCacheMap.values().forEach(this::stopTracking);
+        entityCacheMap.clear();
+        entitySnapshotMap.clear();
+    }
+
+    private void stopTracking(Object entity) {
+        if (entity instanceof SelfDirtinessTracker tracker) {
+            tracker.setDirtinessListener(null);
+            dirtyTrackedEntities.remove(entity);
+        }
     }
 
     public record EntityKey(Class<?> type, Object key) {
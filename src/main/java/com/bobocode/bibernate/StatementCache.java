@@ -0,0 +1,107 @@
+package com.bobocode.bibernate;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of {@link PreparedStatement prepared statements} of a single connection keyed by SQL text.
+ * When the cache is full, the least recently used statement is closed and evicted.
+ * <p>
+ * The cache is not thread-safe, it belongs to a session and must be {@link #close() closed} before the connection.
+ */
+@Slf4j
+public class StatementCache implements AutoCloseable {
+
+    private final Connection connection;
+    private final int maxSize;
+    private final Map<String, PreparedStatement> statements;
+    @Getter
+    private long hits;
+    @Getter
+    private long misses;
+
+    /**
+     * @param connection connection used to prepare statements
+     * @param maxSize    maximum number of cached statements, {@code 0} disables caching
+     */
+    public StatementCache(Connection connection, int maxSize) {
+        Validator.checkNotNegativeNumber(maxSize, "[maxSize] argument cannot be negative number");
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns cached statement for provided SQL or prepares a new one.
+     * Every statement returned by this method must be passed to {@link #release(PreparedStatement)} after use.
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        return prepare(sql, null);
+    }
+
+    /**
+     * Returns cached statement for provided SQL or prepares a new one that makes values of provided columns available
+     * with {@link PreparedStatement#getGeneratedKeys()}. SQL of such statements must not be prepared without key columns.
+     * Every statement returned by this method must be passed to {@link #release(PreparedStatement)} after use.
+     * @param keyColumns names of generated columns, {@code null} if statement does not return generated keys
+     */
+    public PreparedStatement prepare(String sql, String[] keyColumns) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement != null) {
+            hits++;
+            return statement;
+        }
+        misses++;
+        statement = keyColumns == null ? connection.prepareStatement(sql) : connection.prepareStatement(sql, keyColumns);
+        if (maxSize > 0) {
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Closes provided statement if it is not kept in the cache
+     */
+    public void release(PreparedStatement statement) throws SQLException {
+        if (maxSize == 0) {
+            statement.close();
+        }
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * Closes all cached statements
+     */
+    @Override
+    public void close() {
+        log.debug("Closing statement cache: {} statements, {} hits, {} misses", statements.size(), hits, misses);
+        statements.values().forEach(StatementCache::closeQuietly);
+        statements.clear();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close prepared statement", e);
+        }
+    }
+}
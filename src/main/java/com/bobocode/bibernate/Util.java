@@ -1,14 +1,12 @@
 package com.bobocode.bibernate;
 
 import com.bobocode.bibernate.annotation.Column;
-import com.bobocode.bibernate.annotation.Id;
 import com.bobocode.bibernate.annotation.Table;
-import com.bobocode.bibernate.exception.BibernateException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.util.Arrays;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Util {
@@ -34,50 +32,10 @@ public class Util {
         return field.getName();
     }
 
-    @SuppressWarnings("java:S3011")
-    public static Object getValueFromField(Field field, Object entity) {
-        try {
-            field.setAccessible(true);
-            return field.get(entity);
-        } catch (IllegalAccessException e) {
-            throw new BibernateException("Failed to get value from field", e);
-        }
-    }
-
-    @SuppressWarnings("java:S3011")
-    public static void setValueToField(Object value, Field field, Object entity) {
-        try {
-            field.setAccessible(true);
-            field.set(entity, value);
-        } catch (IllegalAccessException e) {
-            throw new BibernateException("Failed to set value to field", e);
-        }
-    }
-
-    public static Field getIdField(Class<?> entityType) {
-        return Arrays.stream(entityType.getDeclaredFields())
-                .filter(f -> f.isAnnotationPresent(Id.class))
-                .findFirst()
-                .orElseThrow();
-    }
-
-    public static <T> T mergeEntities(T entity, T cachedInstance) {
-        Field[] fields = entity.getClass().getDeclaredFields();
-        Field[] cachedFields = cachedInstance.getClass().getDeclaredFields();
-        Field idField = Util.getIdField(entity.getClass());
-        for (int i = 0; i < fields.length; i++) {
-            Field field = fields[i];
-            Field cachedField = cachedFields[i];
-            if (idField.equals(field)) {
-                continue;
-            }
-            setValueToField(Util.getValueFromField(field, entity), cachedField, cachedInstance);
-        }
-        return cachedInstance;
-    }
-
-    public static Object getIdFieldValue(Object entity) {
-        Class<?> entityType = entity.getClass();
-        return Util.getValueFromField(getIdField(entityType), entity);
+    /**
+     * Returns wrapper class of provided primitive type or provided type itself if it is not primitive
+     */
+    public static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
     }
 }
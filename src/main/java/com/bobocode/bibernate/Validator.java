@@ -3,6 +3,7 @@ package com.bobocode.bibernate;
 import com.bobocode.bibernate.annotation.Entity;
 import com.bobocode.bibernate.annotation.Id;
 import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.metadata.EntityMetadata;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,13 +44,10 @@ public class Validator {
      * <br>
      * Primary key is valid if it is marked by {@link Id} annotation
      */
-    public static <T> void checkIdValidPrimaryKeyType(Class<T> type, Object primaryKey) {
-        Optional<Field> primaryKeyField = Arrays.stream(type.getDeclaredFields())
-                .filter(field -> field.isAnnotationPresent(Id.class))
-                .findAny();
-        if (primaryKeyField.isPresent() && !primaryKeyField.get().getType().isAssignableFrom(primaryKey.getClass())) {
+    public static <T> void checkIdValidPrimaryKeyType(EntityMetadata<T> metadata, Object primaryKey) {
+        if (!metadata.getIdAttribute().getType().isAssignableFrom(primaryKey.getClass())) {
             throw new IllegalArgumentException(
-                    "[primaryKey] argument has not valid type for entity type %s".formatted(type.getName()));
+                    "[primaryKey] argument has not valid type for entity type %s".formatted(metadata.getType().getName()));
         }
     }
 
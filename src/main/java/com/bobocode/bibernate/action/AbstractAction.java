@@ -1,12 +1,35 @@
 package com.bobocode.bibernate.action;
 
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+
+import java.sql.Statement;
+
 /**
  * Encapsulates common state between all {@link Action} implementations
  */
-public abstract class AbstractAction implements Action {
+public abstract class AbstractAction implements BatchableAction {
+    protected final EntityMetadata<?> metadata;
     protected final Object entity;
 
-    protected AbstractAction(Object entity) {
+    protected AbstractAction(EntityMetadata<?> metadata, Object entity) {
+        this.metadata = metadata;
         this.entity = entity;
     }
+
+    public EntityMetadata<?> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Accepts exactly one affected row or {@link Statement#SUCCESS_NO_INFO} returned by drivers that do not report
+     * row counts for batched statements
+     */
+    @Override
+    public void checkRowCount(int rowCount) {
+        if (rowCount != 1 && rowCount != Statement.SUCCESS_NO_INFO) {
+            throw new BibernateException("Unexpected row count %d for %s of entity '%s' #%s, expected 1"
+                    .formatted(rowCount, getPriority(), metadata.getTableName(), metadata.getIdValue(entity)));
+        }
+    }
 }
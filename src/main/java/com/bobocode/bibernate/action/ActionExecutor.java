@@ -0,0 +1,173 @@
+package com.bobocode.bibernate.action;
+
+import com.bobocode.bibernate.EntityPersister;
+import com.bobocode.bibernate.ParameterBinder;
+import com.bobocode.bibernate.configuration.Dialect;
+import com.bobocode.bibernate.configuration.JdbcSettings;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes queued {@link Action actions} during {@link com.bobocode.bibernate.session.Session#flush() flush}.
+ * <p>
+ * Consecutive {@link BatchableAction batchable actions} with the same SQL form a run. When the dialect
+ * {@link Dialect#supportsMultiRowInsert() supports} it and {@link JdbcSettings#multiRowInsertSize()} is greater than
+ * one, a run of inserts is split into multi-row INSERT statements. Row counts of these statements are powers of two,
+ * so only a few statement shapes per entity are prepared and cached. Consecutive statements with the same SQL are then
+ * grouped into JDBC batches of at most {@link JdbcSettings#batchSize()} statements.
+ */
+@Slf4j
+public class ActionExecutor {
+
+    private final EntityPersister entityPersister;
+    private final Dialect dialect;
+    private final int batchSize;
+    private final int multiRowInsertSize;
+    private final Map<MultiRowInsertKey, String> multiRowInserts = new HashMap<>();
+
+    /**
+     * @param entityPersister class that handles actual entity persistence
+     * @param dialect         dialect used to render multi-row inserts
+     * @param jdbcSettings    batching settings
+     */
+    public ActionExecutor(EntityPersister entityPersister, Dialect dialect, JdbcSettings jdbcSettings) {
+        this.entityPersister = entityPersister;
+        this.dialect = dialect;
+        this.batchSize = jdbcSettings.batchSize();
+        this.multiRowInsertSize = dialect != null && dialect.supportsMultiRowInsert()
+                ? Integer.highestOneBit(jdbcSettings.multiRowInsertSize())
+                : 0;
+    }
+
+    /**
+     * Executes provided actions in the given order
+     */
+    public void execute(List<? extends Action> actions) {
+        List<BatchableAction> run = new ArrayList<>();
+        for (Action action : actions) {
+            if (action instanceof BatchableAction batchableAction
+                    && (run.isEmpty() || run.get(0).getSql().equals(batchableAction.getSql()))) {
+                run.add(batchableAction);
+                continue;
+            }
+            executeRun(run);
+            if (action instanceof BatchableAction batchableAction) {
+                run.add(batchableAction);
+            } else {
+                action.execute();
+            }
+        }
+        executeRun(run);
+    }
+
+    private void executeRun(List<BatchableAction> run) {
+        if (run.isEmpty()) {
+            return;
+        }
+        List<PendingStatement> statements = toStatements(run);
+        int from = 0;
+        while (from < statements.size()) {
+            int to = from + 1;
+            while (to < statements.size() && to - from < batchSize
+                    && statements.get(to).sql().equals(statements.get(from).sql())) {
+                to++;
+            }
+            executeStatements(statements.subList(from, to));
+            from = to;
+        }
+        run.clear();
+    }
+
+    private List<PendingStatement> toStatements(List<BatchableAction> run) {
+        List<PendingStatement> statements = new ArrayList<>();
+        if (multiRowInsertSize < 2 || !(run.get(0) instanceof InsertAction insertAction)) {
+            run.forEach(action -> statements.add(new PendingStatement(action.getSql(), null, List.of(action))));
+            return statements;
+        }
+        EntityMetadata<?> metadata = insertAction.getMetadata();
+        int from = 0;
+        while (from < run.size()) {
+            int rowCount = Integer.highestOneBit(Math.min(run.size() - from, multiRowInsertSize));
+            List<BatchableAction> rows = List.copyOf(run.subList(from, from + rowCount));
+            if (rowCount == 1) {
+                statements.add(new PendingStatement(rows.get(0).getSql(), null, rows));
+            } else {
+                int columnCount = metadata.getAttributes().size();
+                ParameterBinder parameterBinder = (statement, startIndex) -> {
+                    for (int row = 0; row < rows.size(); row++) {
+                        rows.get(row).bindParameters(statement, startIndex + row * columnCount);
+                    }
+                };
+                statements.add(new PendingStatement(getMultiRowInsert(metadata, rowCount), parameterBinder, rows));
+            }
+            from += rowCount;
+        }
+        return statements;
+    }
+
+    private String getMultiRowInsert(EntityMetadata<?> metadata, int rowCount) {
+        return multiRowInserts.computeIfAbsent(new MultiRowInsertKey(metadata.getTableName(), rowCount),
+                key -> dialect.getMultiRowInsertQuery(key.tableName(), metadata.getAttributes().stream()
+                        .map(EntityAttribute::getColumnName)
+                        .toList(), rowCount));
+    }
+
+    private void executeStatements(List<PendingStatement> batch) {
+        if (batch.size() == 1) {
+            PendingStatement statement = batch.get(0);
+            if (statement.actions().size() == 1) {
+                statement.actions().get(0).execute();
+                return;
+            }
+            log.trace("Executing multi-row insert of {} rows", statement.actions().size());
+            statement.checkRowCount(entityPersister.insert(statement.sql(), statement.getParameterBinder()));
+            statement.actions().forEach(BatchableAction::afterExecute);
+            return;
+        }
+        String sql = batch.get(0).sql();
+        log.trace("Executing batch of {} statements: {}", batch.size(), sql);
+        List<ParameterBinder> parameterBinders = batch.stream()
+                .map(PendingStatement::getParameterBinder)
+                .toList();
+        int[] rowCounts = entityPersister.executeBatch(sql, parameterBinders);
+        if (rowCounts.length != batch.size()) {
+            throw new BibernateException("Batch of %d statements returned %d row counts"
+                    .formatted(batch.size(), rowCounts.length));
+        }
+        for (int i = 0; i < rowCounts.length; i++) {
+            batch.get(i).checkRowCount(rowCounts[i]);
+        }
+        batch.forEach(statement -> statement.actions().forEach(BatchableAction::afterExecute));
+    }
+
+    /**
+     * Statement that executes one action or inserts rows of several actions
+     * @param parameterBinder binder of a multi-row insert, {@code null} when statement executes a single action
+     */
+    private record PendingStatement(String sql, ParameterBinder parameterBinder, List<BatchableAction> actions) {
+
+        ParameterBinder getParameterBinder() {
+            return parameterBinder != null ? parameterBinder : actions.get(0)::bindParameters;
+        }
+
+        void checkRowCount(int rowCount) {
+            if (actions.size() == 1) {
+                actions.get(0).checkRowCount(rowCount);
+            } else if (rowCount != actions.size() && rowCount != Statement.SUCCESS_NO_INFO) {
+                throw new BibernateException("Unexpected row count %d for multi-row insert, expected %d"
+                        .formatted(rowCount, actions.size()));
+            }
+        }
+    }
+
+    private record MultiRowInsertKey(String tableName, int rowCount) {
+    }
+}
@@ -5,6 +5,7 @@ package com.bobocode.bibernate.action;
  */
 public enum ActionPriority {
     INSERT_PRIORITY(1),
+    UPSERT_PRIORITY(1),
     UPDATE_PRIORITY(2),
     DELETE_PRIORITY(3);
 
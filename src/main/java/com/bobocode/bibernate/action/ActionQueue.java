@@ -0,0 +1,86 @@
+package com.bobocode.bibernate.action;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queue of {@link Action actions} registered in a session until {@link com.bobocode.bibernate.session.Session#flush()
+ * flush}. Actions are drained ordered by {@link ActionPriority priority}, actions of the same priority keep the order
+ * they were added in.
+ * <p>
+ * When ordering of inserts or updates is enabled, {@link BatchableAction batchable} inserts or updates are also grouped
+ * by their SQL, so actions of the same entity type follow each other and can be sent in a single JDBC batch.
+ * Other actions, e.g. {@link IdentityInsertAction identity inserts}, form a group of their own. Groups are ordered by
+ * the first action added to each of them, which keeps parent entities that were saved before their children in front
+ * of them.
+ */
+public class ActionQueue {
+
+    private final List<Action> actions = new ArrayList<>();
+    private final boolean orderInserts;
+    private final boolean orderUpdates;
+
+    /**
+     * @param orderInserts whether inserts are grouped by SQL statement
+     * @param orderUpdates whether updates are grouped by SQL statement
+     */
+    public ActionQueue(boolean orderInserts, boolean orderUpdates) {
+        this.orderInserts = orderInserts;
+        this.orderUpdates = orderUpdates;
+    }
+
+    public void add(Action action) {
+        actions.add(action);
+    }
+
+    public boolean isEmpty() {
+        return actions.isEmpty();
+    }
+
+    public int size() {
+        return actions.size();
+    }
+
+    /**
+     * Removes all actions from the queue
+     * @return removed actions in execution order
+     */
+    public List<Action> drain() {
+        List<Action> drainedActions = new ArrayList<>(actions);
+        actions.clear();
+        drainedActions.sort(Action.comparingPriority().thenComparing(groupOrder(drainedActions)));
+        return drainedActions;
+    }
+
+    private Comparator<Action> groupOrder(List<Action> drainedActions) {
+        if (!orderInserts && !orderUpdates) {
+            return (first, second) -> 0;
+        }
+        // group index is the queue position of the first action of the group
+        Map<Action, Integer> groupIndexes = new IdentityHashMap<>();
+        Map<String, Integer> sqlGroupIndexes = new HashMap<>();
+        for (Action action : drainedActions) {
+            int position = groupIndexes.size();
+            int groupIndex = isOrdered(action)
+                    ? sqlGroupIndexes.computeIfAbsent(((BatchableAction) action).getSql(), sql -> position)
+                    : position;
+            groupIndexes.put(action, groupIndex);
+        }
+        return Comparator.comparingInt(groupIndexes::get);
+    }
+
+    private boolean isOrdered(Action action) {
+        if (!(action instanceof BatchableAction)) {
+            return false;
+        }
+        return switch (action.getPriority()) {
+            case INSERT_PRIORITY, UPSERT_PRIORITY -> orderInserts;
+            case UPDATE_PRIORITY -> orderUpdates;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.bobocode.bibernate.action;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * {@link Action} that is executed as a single parameterized DML statement affecting exactly one row.
+ * Consecutive batchable actions with the same SQL can be sent to DB in a single JDBC batch by {@link ActionExecutor}.
+ */
+public interface BatchableAction extends Action {
+
+    /**
+     * @return SQL statement of the action
+     */
+    String getSql();
+
+    /**
+     * Binds parameters of {@link #getSql() SQL statement} in the order of placeholders
+     * @param statement  prepared statement of the action, or of a multi-row insert containing its row
+     * @param startIndex index of the first parameter of the action
+     */
+    void bindParameters(PreparedStatement statement, int startIndex) throws SQLException;
+
+    /**
+     * Updates {@link com.bobocode.bibernate.PersistenceContext persistence context} after the statement is executed
+     */
+    void afterExecute();
+
+    /**
+     * Checks that the statement of the action affected exactly one row
+     * @param rowCount update count returned by JDBC driver
+     * @throws com.bobocode.bibernate.exception.BibernateException if row count is not the expected one
+     */
+    void checkRowCount(int rowCount);
+}
@@ -2,10 +2,11 @@ package com.bobocode.bibernate.action;
 
 import com.bobocode.bibernate.EntityPersister;
 import com.bobocode.bibernate.PersistenceContext;
-import com.bobocode.bibernate.Util;
-import lombok.extern.slf4j.Slf4j;
+import com.bobocode.bibernate.metadata.EntityMetadata;
 
-import static com.bobocode.bibernate.configuration.Dialect.DELETE_QUERY;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Represents DELETE SQL statement that will be lazily executed on a provided entity.
@@ -18,10 +19,12 @@ public class DeleteAction extends AbstractAction {
     /**
      * @param entityPersister class that handles actual entity persistence
      * @param context used to remove entity from {@link PersistenceContext persistence context}
+     * @param metadata mapping metadata of the entity
      * @param entity table record represented as object to be deleted
      */
-    public DeleteAction(EntityPersister entityPersister, PersistenceContext context, Object entity) {
-        super(entity);
+    public DeleteAction(EntityPersister entityPersister, PersistenceContext context, EntityMetadata<?> metadata,
+            Object entity) {
+        super(metadata, entity);
         this.entityPersister = entityPersister;
         this.context = context;
     }
@@ -31,12 +34,28 @@ public class DeleteAction extends AbstractAction {
      */
     @Override
     public void execute() {
-        Class<?> entityType = entity.getClass();
-        String tableName = Util.getTableName(entityType);
-        Object idFieldValue = Util.getIdFieldValue(entity);
-        log.trace("Executing delete for entity '{}' #{}", tableName, idFieldValue);
-        String deleteQuery = DELETE_QUERY.formatted(tableName);
-        entityPersister.delete(deleteQuery, idFieldValue);
+        log.trace("Executing delete for entity '{}' #{}", metadata.getTableName(), metadata.getIdValue(entity));
+        checkRowCount(entityPersister.delete(getSql(), this::bindParameters));
+        afterExecute();
+    }
+
+    @Override
+    public String getSql() {
+        return metadata.getQueries().deleteById();
+    }
+
+    @Override
+    public void bindParameters(PreparedStatement statement, int startIndex) throws SQLException {
+        metadata.bindIdParameter(statement, startIndex, entity);
+    }
+
+    /**
+     * Removes deleted entity from {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void afterExecute() {
+        String tableName = metadata.getTableName();
+        Object idFieldValue = metadata.getIdValue(entity);
         log.trace("Entity '{}' #{} is deleted from DB", tableName, idFieldValue);
         context.evict(entity, idFieldValue);
         log.trace("Entity '{}' #{} is removed form Persistence Context", tableName, idFieldValue);
@@ -0,0 +1,64 @@
+package com.bobocode.bibernate.action;
+
+import com.bobocode.bibernate.EntityPersister;
+import com.bobocode.bibernate.PersistenceContext;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Represents INSERT SQL statement of an entity with {@link com.bobocode.bibernate.annotation.GenerationType#IDENTITY
+ * identity} id. The id is known only after the row is inserted, so the statement is executed on its own rather than
+ * in a JDBC batch.
+ */
+@Slf4j
+public class IdentityInsertAction implements Action {
+
+    private final EntityPersister entityPersister;
+    private final PersistenceContext persistenceContext;
+    private final EntityMetadata<?> metadata;
+    private final Object entity;
+
+    /**
+     * @param entityPersister class that handles actual entity persistence
+     * @param context used to save entity in {@link PersistenceContext persistence context}
+     * @param metadata mapping metadata of the entity
+     * @param entity table record represented as object to be inserted
+     */
+    public IdentityInsertAction(EntityPersister entityPersister, PersistenceContext context,
+            EntityMetadata<?> metadata, Object entity) {
+        this.entityPersister = entityPersister;
+        this.persistenceContext = context;
+        this.metadata = metadata;
+        this.entity = entity;
+    }
+
+    /**
+     * Inserts given entity into DB, sets generated id to the entity and puts it in
+     * {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void execute() {
+        String tableName = metadata.getTableName();
+        log.trace("Executing identity insert for entity '{}'", tableName);
+        EntityAttribute idAttribute = metadata.getIdAttribute();
+        Object idValue = entityPersister.insert(metadata.getQueries().insertWithoutId(),
+                (statement, startIndex) -> metadata.bindInsertWithoutIdParameters(statement, startIndex, entity),
+                idAttribute.getColumnName(), generatedKeys -> {
+                    if (!generatedKeys.next()) {
+                        throw new BibernateException("No id is generated for entity '%s'".formatted(tableName));
+                    }
+                    return idAttribute.getTypeHandler().read(generatedKeys, 1);
+                });
+        idAttribute.setValue(entity, idValue);
+        persistenceContext.putEntity(entity, idValue);
+        persistenceContext.putEntitySnapshot(entity, idValue);
+        log.trace("Entity '{}' #{} is inserted and saved in Persistence Context", tableName, idValue);
+    }
+
+    @Override
+    public ActionPriority getPriority() {
+        return ActionPriority.INSERT_PRIORITY;
+    }
+}
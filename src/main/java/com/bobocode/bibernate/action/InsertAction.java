@@ -2,21 +2,12 @@ package com.bobocode.bibernate.action;
 
 import com.bobocode.bibernate.EntityPersister;
 import com.bobocode.bibernate.PersistenceContext;
-import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.metadata.EntityMetadata;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.bobocode.bibernate.configuration.Dialect.INSERT_TEMPLATE;
-import static com.bobocode.bibernate.configuration.Dialect.PLACEHOLDER;
-import static com.bobocode.bibernate.configuration.Dialect.prepareValuesClause;
-
 /**
  * Represents INSERT SQL statement that will be lazily executed on a provided entity.
  */
@@ -29,10 +20,12 @@ public class InsertAction extends AbstractAction {
     /**
      * @param entityPersister class that handles actual entity persistence
      * @param context used to save entity in {@link PersistenceContext persistence context}
+     * @param metadata mapping metadata of the entity
      * @param entity table record represented as object to be inserted
      */
-    public InsertAction(EntityPersister entityPersister, PersistenceContext context, Object entity) {
-        super(entity);
+    public InsertAction(EntityPersister entityPersister, PersistenceContext context, EntityMetadata<?> metadata,
+            Object entity) {
+        super(metadata, entity);
         this.entityPersister = entityPersister;
         this.persistenceContext = context;
     }
@@ -42,39 +35,34 @@ public class InsertAction extends AbstractAction {
      */
     @Override
     public void execute() {
-        String tableName = Util.getTableName(entity.getClass());
-        log.trace("Executing insert for entity '{}'", tableName);
-        Field[] declaredFields = entity.getClass().getDeclaredFields();
-        Set<String> columnNamesToInsert = getColumnNamesToInsert(declaredFields);
-        String query = prepareInsertQuery(entity, columnNamesToInsert);
-        List<Object> columnsValues = getColumnsValues(declaredFields);
-        entityPersister.insert(query, columnsValues);
-        log.trace("Entity '{}' is inserted into DB", tableName);
-        persistenceContext.putEntity(entity, Util.getIdFieldValue(entity));
-        log.trace("Entity '{}' is saved in Persistence Context", tableName);
+        log.trace("Executing insert for entity '{}'", metadata.getTableName());
+        checkRowCount(entityPersister.insert(getSql(), this::bindParameters));
+        afterExecute();
     }
 
-    private List<Object> getColumnsValues(Field[] declaredFields) {
-        return Arrays.stream(declaredFields)
-                .sorted(Comparator.comparing(Field::getName))
-                .map(f -> Util.getValueFromField(f, entity))
-                .toList();
+    @Override
+    public String getSql() {
+        return metadata.getQueries().insert();
     }
 
-    private static Set<String> getColumnNamesToInsert(Field[] declaredFields) {
-        return Arrays.stream(declaredFields)
-                .map(Util::getColumnName)
-                .collect(Collectors.toSet());
+    @Override
+    public void bindParameters(PreparedStatement statement, int startIndex) throws SQLException {
+        metadata.bindInsertParameters(statement, startIndex, entity);
     }
 
-    private String prepareInsertQuery(Object entity, Set<String> columnsToInsert) {
-        String tableName = Util.getTableName(entity.getClass());
-        String valuesClause = prepareValuesClause(columnsToInsert);
-        String placeholders = Stream.generate(() -> PLACEHOLDER).limit(columnsToInsert.size()).collect(Collectors.joining(", "));
-        return INSERT_TEMPLATE.formatted(tableName, valuesClause, placeholders);
+    /**
+     * Puts inserted entity and its snapshot in {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void afterExecute() {
+        String tableName = metadata.getTableName();
+        log.trace("Entity '{}' is inserted into DB", tableName);
+        Object idValue = metadata.getIdValue(entity);
+        persistenceContext.putEntity(entity, idValue);
+        persistenceContext.putEntitySnapshot(entity, idValue);
+        log.trace("Entity '{}' is saved in Persistence Context", tableName);
     }
 
-
     @Override
     public ActionPriority getPriority() {
         return ActionPriority.INSERT_PRIORITY;
@@ -1,70 +1,64 @@
 package com.bobocode.bibernate.action;
 
 import com.bobocode.bibernate.EntityPersister;
-import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.PersistenceContext;
+import com.bobocode.bibernate.metadata.EntityMetadata;
 
-import java.lang.reflect.Field;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.bobocode.bibernate.configuration.Dialect.UPDATE_TEMPLATE;
-import static com.bobocode.bibernate.configuration.Dialect.prepareSetClause;
-import static com.bobocode.bibernate.configuration.Dialect.prepareWhereClause;
-
 /**
  * Represents UPDATE SQL statement that will be lazily executed on a provided entity.
+ * All non-id columns are updated, so every update of an entity type uses the same SQL statement.
  */
 @Slf4j
 public class UpdateAction extends AbstractAction {
 
     private final EntityPersister entityPersister;
-    private final Map<String, Object> updatedColumns;
+    private final PersistenceContext persistenceContext;
 
     /**
      * @param entityPersister class that handles actual entity persistence
-     * @param entity table record represented as object to be inserted
-     * @param updatedColumns column name to value map that represents table columns that are needed to be used in UPDATE query
+     * @param context used to refresh entity snapshot in {@link PersistenceContext persistence context}
+     * @param metadata mapping metadata of the entity
+     * @param entity table record represented as object to be updated
      */
-    public UpdateAction(EntityPersister entityPersister, Object entity, Map<String, Object> updatedColumns) {
-        super(entity);
+    public UpdateAction(EntityPersister entityPersister, PersistenceContext context, EntityMetadata<?> metadata,
+            Object entity) {
+        super(metadata, entity);
         this.entityPersister = entityPersister;
-        this.updatedColumns = updatedColumns;
+        this.persistenceContext = context;
     }
 
     /**
-     * Updates given {@link UpdateAction#updatedColumns entity's columns} in DB.
+     * Updates given entity's columns in DB and refreshes its snapshot in
+     * {@link PersistenceContext persistence context}.
      */
     @Override
     public void execute() {
-        String tableName = Util.getTableName(entity.getClass());
-        Object idValue = Util.getIdFieldValue(entity);
-        log.trace("Executing update for entity '{}' #{}", tableName, idValue);
-        String query = prepareUpdateQuery(entity, updatedColumns);
-        List<Object> sortedColumnValues = getSortedColumnValues();
-        List<Object> propertiesToFilter = List.of(Util.getIdFieldValue(entity));
-        entityPersister.update(query, sortedColumnValues, propertiesToFilter);
-        log.trace("Entity '{}' is updated in DB", tableName);
+        log.trace("Executing update for entity '{}' #{}", metadata.getTableName(), metadata.getIdValue(entity));
+        checkRowCount(entityPersister.update(getSql(), this::bindParameters));
+        afterExecute();
     }
 
-    private List<Object> getSortedColumnValues() {
-        return updatedColumns
-                .entrySet()
-                .stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(Map.Entry::getValue)
-                .toList();
+    @Override
+    public String getSql() {
+        return metadata.getQueries().updateById();
     }
 
-    private String prepareUpdateQuery(Object entity, Map<String, Object> updatedColumns) {
-        String tableName = Util.getTableName(entity.getClass());
+    @Override
+    public void bindParameters(PreparedStatement statement, int startIndex) throws SQLException {
+        metadata.bindUpdateParameters(statement, startIndex, entity);
+    }
 
-        Field idField = Util.getIdField(entity.getClass());
-        String idColumnName = Util.getColumnName(idField);
-        String setClause = prepareSetClause(updatedColumns.keySet());
-        String whereClause = prepareWhereClause(Set.of(idColumnName));
-        return UPDATE_TEMPLATE.formatted(tableName, setClause, whereClause);
+    /**
+     * Refreshes snapshot of updated entity in {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void afterExecute() {
+        log.trace("Entity '{}' is updated in DB", metadata.getTableName());
+        persistenceContext.putEntitySnapshot(entity, metadata.getIdValue(entity));
     }
 
     @Override
@@ -0,0 +1,73 @@
+package com.bobocode.bibernate.action;
+
+import com.bobocode.bibernate.EntityPersister;
+import com.bobocode.bibernate.PersistenceContext;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Represents dialect-specific statement that inserts a row of provided entity or updates the existing row with the same
+ * id, e.g. {@code INSERT ... ON CONFLICT DO UPDATE} or {@code MERGE INTO ... KEY}. Consecutive upserts of the same
+ * entity type are sent in JDBC batches.
+ */
+@Slf4j
+public class UpsertAction extends AbstractAction {
+
+    private final EntityPersister entityPersister;
+    private final PersistenceContext persistenceContext;
+    private final String sql;
+
+    /**
+     * @param entityPersister class that handles actual entity persistence
+     * @param context         used to save entity in {@link PersistenceContext persistence context}
+     * @param metadata        mapping metadata of the entity
+     * @param entity          table record represented as object to be upserted
+     * @param sql             upsert statement of the entity rendered by the dialect
+     */
+    public UpsertAction(EntityPersister entityPersister, PersistenceContext context, EntityMetadata<?> metadata,
+            Object entity, String sql) {
+        super(metadata, entity);
+        this.entityPersister = entityPersister;
+        this.persistenceContext = context;
+        this.sql = sql;
+    }
+
+    /**
+     * Upserts given entity and puts it in {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void execute() {
+        log.trace("Executing upsert for entity '{}'", metadata.getTableName());
+        checkRowCount(entityPersister.insert(sql, this::bindParameters));
+        afterExecute();
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public void bindParameters(PreparedStatement statement, int startIndex) throws SQLException {
+        metadata.bindInsertParameters(statement, startIndex, entity);
+    }
+
+    /**
+     * Puts upserted entity and its snapshot in {@link PersistenceContext persistence context}.
+     */
+    @Override
+    public void afterExecute() {
+        Object idValue = metadata.getIdValue(entity);
+        persistenceContext.putEntity(entity, idValue);
+        persistenceContext.putEntitySnapshot(entity, idValue);
+        log.trace("Entity '{}' is upserted and saved in Persistence Context", metadata.getTableName());
+    }
+
+    @Override
+    public ActionPriority getPriority() {
+        return ActionPriority.UPSERT_PRIORITY;
+    }
+}
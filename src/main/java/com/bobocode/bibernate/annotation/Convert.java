@@ -0,0 +1,18 @@
+package com.bobocode.bibernate.annotation;
+
+import com.bobocode.bibernate.converter.AttributeConverter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies {@link AttributeConverter} of entity class field.
+ * The converter class must have public no-arg constructor, its single instance is shared by all attributes
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Convert {
+    Class<? extends AttributeConverter<?>> value();
+}
@@ -0,0 +1,34 @@
+package com.bobocode.bibernate.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that value of the {@link Id} field of a new entity is generated when the entity is saved with a null id.
+ * Generated ids must be of {@code java.util.UUID} type for {@link GenerationType#UUID} strategy and of {@code Long} or
+ * {@code Integer} type for other strategies
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface GeneratedValue {
+
+    GenerationType strategy();
+
+    /**
+     * Name of the sequence used by {@link GenerationType#SEQUENCE} strategy, {@code <table name>_seq} by default
+     */
+    String sequenceName() default "";
+
+    /**
+     * Number of ids reserved per sequence call by {@link GenerationType#SEQUENCE} strategy. With
+     * {@link SequenceOptimizer#POOLED} optimizer the sequence must be incremented by the same value
+     */
+    int allocationSize() default 50;
+
+    /**
+     * How blocks of ids are derived from sequence values by {@link GenerationType#SEQUENCE} strategy
+     */
+    SequenceOptimizer optimizer() default SequenceOptimizer.POOLED;
+}
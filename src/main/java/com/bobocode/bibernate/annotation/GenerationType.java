@@ -0,0 +1,22 @@
+package com.bobocode.bibernate.annotation;
+
+/**
+ * Strategies of {@link GeneratedValue id generation}
+ */
+public enum GenerationType {
+    /**
+     * Id is generated by identity (auto-increment) column on insert and read back with
+     * {@link java.sql.Statement#getGeneratedKeys()}. Such inserts are executed one by one and are not batched
+     */
+    IDENTITY,
+    /**
+     * Id is taken from a block of ids reserved with a single database sequence call and is assigned when the entity is
+     * saved, so inserts stay batchable
+     */
+    SEQUENCE,
+    /**
+     * Time-ordered version 7 {@link java.util.UUID} is generated by application when the entity is saved. Ids of
+     * consecutive inserts are close in index order and need no database round trip
+     */
+    UUID
+}
@@ -0,0 +1,18 @@
+package com.bobocode.bibernate.annotation;
+
+/**
+ * Derives a block of {@link GeneratedValue#allocationSize() allocationSize} ids from a single sequence value
+ */
+public enum SequenceOptimizer {
+    /**
+     * Sequence value is the lowest id of the block: value {@code v} reserves ids {@code [v, v + allocationSize)}.
+     * The sequence must be incremented by {@code allocationSize}, so rows inserted by other clients with plain
+     * sequence values do not collide with reserved blocks
+     */
+    POOLED,
+    /**
+     * Sequence value is the block number: value {@code v} reserves ids
+     * {@code [v * allocationSize, (v + 1) * allocationSize)}. The sequence is incremented by one
+     */
+    HILO
+}
@@ -1,5 +1,7 @@
 package com.bobocode.bibernate.configuration;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -9,15 +11,21 @@ import java.util.stream.Collectors;
 public interface Dialect {
 
     String SELECT_ALL_TEMPLATE = "select * from %s";
-    String SELECT_ALL_ID_TEMPLATE = "select * from %s where id = ?";
+    String SELECT_COLUMNS_TEMPLATE = "select %s from %s";
+    String SELECT_ONE_TEMPLATE = "select 1 from %s";
+    String SELECT_AGGREGATE_TEMPLATE = "select %s(%s) from %s";
+    String SELECT_ALL_BY_ID_TEMPLATE = "select * from %s where %s = ?";
+    String SELECT_ALL_BY_IDS_TEMPLATE = "select * from %s where %s in (%s)";
     String SELECT_ALL_BY_PROPERTIES_TEMPLATE = "select * from %s where %s";
     String UPDATE_TEMPLATE = "update %s set %s where %s";
+    String UPDATE_ALL_TEMPLATE = "update %s set %s";
     String INSERT_TEMPLATE = "insert into %s (%s) values (%s)";
     String AND_WITH_SPACES = " AND ";
     String NAME_EQUALS_VALUE_TEMPLATE = "%s = ?";
     String PLACEHOLDER = "?";
     String COMMA_SEPARATOR = ", ";
-    String DELETE_QUERY = "delete from %s where id = ?";
+    String DELETE_BY_ID_TEMPLATE = "delete from %s where %s = ?";
+    String DELETE_ALL_TEMPLATE = "delete from %s";
 
     static String prepareWhereClause(Set<String> columns) {
         return columns.stream()
@@ -30,7 +38,7 @@ public interface Dialect {
         return columns.stream()
                 .sorted()
                 .map(NAME_EQUALS_VALUE_TEMPLATE::formatted)
-                .collect(Collectors.joining(AND_WITH_SPACES));
+                .collect(Collectors.joining(COMMA_SEPARATOR));
     }
 
     static String prepareValuesClause(Set<String> columns) {
@@ -39,6 +47,103 @@ public interface Dialect {
                 .collect(Collectors.joining(COMMA_SEPARATOR));
     }
 
+    /**
+     * Renders INSERT statement with {@code rowCount} rows of placeholders in VALUES clause
+     * @param tableName table to insert into
+     * @param columns   columns of every row
+     * @param rowCount  number of rows
+     */
+    static String prepareMultiRowInsert(String tableName, List<String> columns, int rowCount) {
+        String row = "(" + String.join(COMMA_SEPARATOR, Collections.nCopies(columns.size(), PLACEHOLDER)) + ")";
+        return "insert into %s (%s) values %s".formatted(tableName, String.join(COMMA_SEPARATOR, columns),
+                String.join(COMMA_SEPARATOR, Collections.nCopies(rowCount, row)));
+    }
+
+    /**
+     * Renders keyset pagination query that seeks rows following provided key with row value comparison, e.g.
+     * {@code select * from t where (a, id) > (?, ?) order by a, id limit ?}. The WHERE clause is omitted for the
+     * first page. Parameters are values of the key columns followed by the limit.
+     * @param tableName   table to select from
+     * @param keyColumns  columns of a unique sort key
+     * @param hasAfterKey whether rows are seeked after a key, {@code false} for the first page
+     */
+    static String prepareKeysetPageQuery(String tableName, List<String> keyColumns, boolean hasAfterKey) {
+        StringBuilder query = new StringBuilder(SELECT_ALL_TEMPLATE.formatted(tableName));
+        if (hasAfterKey) {
+            String placeholders = String.join(COMMA_SEPARATOR, Collections.nCopies(keyColumns.size(), PLACEHOLDER));
+            query.append(keyColumns.size() == 1
+                    ? " where %s > ?".formatted(keyColumns.get(0))
+                    : " where (%s) > (%s)".formatted(String.join(COMMA_SEPARATOR, keyColumns), placeholders));
+        }
+        return query.append(" order by ").append(String.join(COMMA_SEPARATOR, keyColumns)).append(" limit ?")
+                .toString();
+    }
+
+    /**
+     * Renders keyset pagination query, see {@link #prepareKeysetPageQuery(String, List, boolean)}. Dialects of
+     * databases without row value comparison or LIMIT clause override it.
+     */
+    default String getKeysetPageQuery(String tableName, List<String> keyColumns, boolean hasAfterKey) {
+        return prepareKeysetPageQuery(tableName, keyColumns, hasAfterKey);
+    }
+
+    /**
+     * Clause limiting result to the first row, used by existence checks
+     */
+    default String getSingleRowClause() {
+        return " fetch first 1 rows only";
+    }
+
+    /**
+     * Whether database accepts INSERT statement with several rows in VALUES clause
+     */
+    default boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * Renders INSERT statement inserting {@code rowCount} rows at once. Parameters are bound row by row.
+     * @throws UnsupportedOperationException if {@link #supportsMultiRowInsert() multi-row insert is not supported}
+     */
+    default String getMultiRowInsertQuery(String tableName, List<String> columns, int rowCount) {
+        throw new UnsupportedOperationException("Multi-row insert is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Whether database inserts a row or updates the existing row with the same id in a single statement
+     */
+    default boolean supportsUpsert() {
+        return false;
+    }
+
+    /**
+     * Renders statement inserting a row or updating all columns of the existing row with the same id. Parameters are
+     * bound in the order of provided columns, like parameters of an INSERT statement.
+     * @param tableName table to upsert into
+     * @param columns   all columns of the row, including id column
+     * @param idColumn  id column identifying the existing row
+     * @throws UnsupportedOperationException if {@link #supportsUpsert() upsert is not supported}
+     */
+    default String getUpsertQuery(String tableName, List<String> columns, String idColumn) {
+        throw new UnsupportedOperationException("Upsert is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Renders query selecting the next value of provided sequence as a single-row, single-column result
+     * @throws UnsupportedOperationException if database has no sequences
+     */
+    default String getSequenceNextValueQuery(String sequenceName) {
+        throw new UnsupportedOperationException("Sequences are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Whether JDBC driver fetches rows of a result set lazily in chunks of {@link java.sql.Statement#setFetchSize fetch
+     * size} only when auto-commit is disabled, e.g. PostgreSQL driver uses a server-side cursor only inside a transaction
+     */
+    default boolean requiresTransactionForCursor() {
+        return false;
+    }
+
     String getLimitClause(int limit, int offset);
 
     String getLimitClause(int limit);
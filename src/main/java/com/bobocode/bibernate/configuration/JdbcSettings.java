@@ -0,0 +1,31 @@
+package com.bobocode.bibernate.configuration;
+
+import com.bobocode.bibernate.Validator;
+
+/**
+ * JDBC related settings of a persistence unit that are applied to every session opened by a session factory.
+ * @param statementCacheSize maximum number of prepared statements kept open per session, {@code 0} disables caching
+ * @param batchSize          maximum number of statements sent to DB in a single JDBC batch during flush,
+ *                           {@code 0} or {@code 1} disables batching
+ * @param orderInserts       whether queued inserts are grouped by entity type to form larger batches
+ * @param orderUpdates       whether queued updates are grouped by entity type to form larger batches
+ * @param multiRowInsertSize maximum number of rows inserted by a single multi-row INSERT statement when dialect
+ *                           supports it, {@code 0} or {@code 1} disables multi-row inserts. Keep
+ *                           {@code multiRowInsertSize * columns} under the bind parameter limit of the driver
+ */
+public record JdbcSettings(int statementCacheSize, int batchSize, boolean orderInserts, boolean orderUpdates,
+                           int multiRowInsertSize) {
+
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+    public static final int DEFAULT_BATCH_SIZE = 1;
+    public static final int DEFAULT_MULTI_ROW_INSERT_SIZE = 1;
+
+    public static final JdbcSettings DEFAULT = new JdbcSettings(DEFAULT_STATEMENT_CACHE_SIZE, DEFAULT_BATCH_SIZE,
+            false, false, DEFAULT_MULTI_ROW_INSERT_SIZE);
+
+    public JdbcSettings {
+        Validator.checkNotNegativeNumber(statementCacheSize, "[statementCacheSize] cannot be negative number");
+        Validator.checkNotNegativeNumber(batchSize, "[batchSize] cannot be negative number");
+        Validator.checkNotNegativeNumber(multiRowInsertSize, "[multiRowInsertSize] cannot be negative number");
+    }
+}
@@ -18,6 +18,11 @@ import static com.bobocode.bibernate.configuration.PropertyValues.DATA_SOURCE_JD
 import static com.bobocode.bibernate.configuration.PropertyValues.DATA_SOURCE_PASSWORD_PROPERTY;
 import static com.bobocode.bibernate.configuration.PropertyValues.DATA_SOURCE_USER_PROPERTY;
 import static com.bobocode.bibernate.configuration.PropertyValues.DIALECT_PROPERTY;
+import static com.bobocode.bibernate.configuration.PropertyValues.JDBC_BATCH_SIZE_PROPERTY;
+import static com.bobocode.bibernate.configuration.PropertyValues.JDBC_MULTI_ROW_INSERT_SIZE_PROPERTY;
+import static com.bobocode.bibernate.configuration.PropertyValues.JDBC_ORDER_INSERTS_PROPERTY;
+import static com.bobocode.bibernate.configuration.PropertyValues.JDBC_ORDER_UPDATES_PROPERTY;
+import static com.bobocode.bibernate.configuration.PropertyValues.JDBC_STATEMENT_CACHE_SIZE_PROPERTY;
 import static com.bobocode.bibernate.configuration.PropertyValues.LOG_LEVEL_PROPERTY;
 import static com.bobocode.bibernate.configuration.PropertyValues.PERSISTENCE_UNIT_NAME_PROPERTY;
 
@@ -35,11 +40,12 @@ public class PersistenceUnitProperties {
     private String user;
     private String password;
     private Level logLevel;
+    private JdbcSettings jdbcSettings;
 
     /**
      * Reads and sets properties such as: persistenceUnitName, jdbcUrl, userName and password which are base for connection to
      * database; if dialect name is not provided then resolve it from connection metadata; if logLevel is not provided then sets it
-     * Level.DEBUG as default
+     * Level.DEBUG as default; JDBC settings that are not provided get {@link JdbcSettings#DEFAULT default} values
      * @param properties            map of properties
      * @throws BibernateException   if some required property is invalid
      */
@@ -49,9 +55,38 @@ public class PersistenceUnitProperties {
         readDatabaseNameFromConnectionMetaData();
         readDialect(properties);
         readLogLevel(properties);
+        readJdbcSettings(properties);
         setLogLevelForLogger();
     }
 
+    private void readJdbcSettings(Map<String, String> properties) {
+        int statementCacheSize = readInt(properties, JDBC_STATEMENT_CACHE_SIZE_PROPERTY,
+                JdbcSettings.DEFAULT_STATEMENT_CACHE_SIZE);
+        int batchSize = readInt(properties, JDBC_BATCH_SIZE_PROPERTY, JdbcSettings.DEFAULT_BATCH_SIZE);
+        boolean orderInserts = readBoolean(properties, JDBC_ORDER_INSERTS_PROPERTY);
+        boolean orderUpdates = readBoolean(properties, JDBC_ORDER_UPDATES_PROPERTY);
+        int multiRowInsertSize = readInt(properties, JDBC_MULTI_ROW_INSERT_SIZE_PROPERTY,
+                JdbcSettings.DEFAULT_MULTI_ROW_INSERT_SIZE);
+        jdbcSettings = new JdbcSettings(statementCacheSize, batchSize, orderInserts, orderUpdates,
+                multiRowInsertSize);
+    }
+
+    private static boolean readBoolean(Map<String, String> properties, PropertyValues property) {
+        return Boolean.parseBoolean(properties.get(property.value));
+    }
+
+    private static int readInt(Map<String, String> properties, PropertyValues property, int defaultValue) {
+        String value = properties.get(property.value);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BibernateException("Property %s must be a number, but was '%s'".formatted(property.value, value));
+        }
+    }
+
     private void setLogLevelForLogger() {
         Logger logger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         logger.setLevel(logLevel);
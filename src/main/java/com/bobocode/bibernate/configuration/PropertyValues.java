@@ -9,6 +9,11 @@ public enum PropertyValues {
     DATA_SOURCE_USER_PROPERTY("persistenceUnit.dataSource.user"),
     DATA_SOURCE_PASSWORD_PROPERTY("persistenceUnit.dataSource.password"),
     DIALECT_PROPERTY("persistenceUnit.dialect"),
+    JDBC_STATEMENT_CACHE_SIZE_PROPERTY("persistenceUnit.jdbc.statementCacheSize"),
+    JDBC_BATCH_SIZE_PROPERTY("persistenceUnit.jdbc.batchSize"),
+    JDBC_ORDER_INSERTS_PROPERTY("persistenceUnit.jdbc.orderInserts"),
+    JDBC_ORDER_UPDATES_PROPERTY("persistenceUnit.jdbc.orderUpdates"),
+    JDBC_MULTI_ROW_INSERT_SIZE_PROPERTY("persistenceUnit.jdbc.multiRowInsertSize"),
     LOG_LEVEL_PROPERTY("logLevel");
 
     public final String value;
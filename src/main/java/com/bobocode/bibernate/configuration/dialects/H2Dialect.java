@@ -2,6 +2,9 @@ package com.bobocode.bibernate.configuration.dialects;
 
 import com.bobocode.bibernate.configuration.Dialect;
 
+import java.util.Collections;
+import java.util.List;
+
 public class H2Dialect implements Dialect {
 
     @Override
@@ -13,4 +16,41 @@ public class H2Dialect implements Dialect {
     public String getLimitClause(int limit) {
         return " limit ?";
     }
+
+    @Override
+    public String getSingleRowClause() {
+        return " limit 1";
+    }
+
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    @Override
+    public String getMultiRowInsertQuery(String tableName, List<String> columns, int rowCount) {
+        return Dialect.prepareMultiRowInsert(tableName, columns, rowCount);
+    }
+
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * Renders {@code merge into t (id, a) key (id) values (?, ?)} statement
+     */
+    @Override
+    public String getUpsertQuery(String tableName, List<String> columns, String idColumn) {
+        return "merge into %s (%s) key (%s) values (%s)".formatted(tableName, String.join(COMMA_SEPARATOR, columns),
+                idColumn, String.join(COMMA_SEPARATOR, Collections.nCopies(columns.size(), PLACEHOLDER)));
+    }
+
+    /**
+     * Renders {@code select next value for seq} query
+     */
+    @Override
+    public String getSequenceNextValueQuery(String sequenceName) {
+        return "select next value for " + sequenceName;
+    }
 }
@@ -2,6 +2,9 @@ package com.bobocode.bibernate.configuration.dialects;
 
 import com.bobocode.bibernate.configuration.Dialect;
 
+import java.util.Collections;
+import java.util.List;
+
 public class PostgreSQLDialect implements Dialect {
     @Override
     public String getLimitClause(int limit, int offset) {
@@ -12,4 +15,54 @@ public class PostgreSQLDialect implements Dialect {
     public String getLimitClause(int limit) {
         return " limit ?";
     }
+
+    @Override
+    public String getSingleRowClause() {
+        return " limit 1";
+    }
+
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    @Override
+    public String getMultiRowInsertQuery(String tableName, List<String> columns, int rowCount) {
+        return Dialect.prepareMultiRowInsert(tableName, columns, rowCount);
+    }
+
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * Renders {@code insert into t (id, a) values (?, ?) on conflict (id) do update set a = excluded.a} statement
+     */
+    @Override
+    public String getUpsertQuery(String tableName, List<String> columns, String idColumn) {
+        List<String> assignments = columns.stream()
+                .filter(column -> !column.equals(idColumn))
+                .map(column -> "%s = excluded.%s".formatted(column, column))
+                .toList();
+        return "insert into %s (%s) values (%s) on conflict (%s) do update set %s".formatted(tableName,
+                String.join(COMMA_SEPARATOR, columns),
+                String.join(COMMA_SEPARATOR, Collections.nCopies(columns.size(), PLACEHOLDER)), idColumn,
+                assignments.isEmpty()
+                        ? "%s = excluded.%s".formatted(idColumn, idColumn)
+                        : String.join(COMMA_SEPARATOR, assignments));
+    }
+
+    /**
+     * Renders {@code select nextval('seq')} query
+     */
+    @Override
+    public String getSequenceNextValueQuery(String sequenceName) {
+        return "select nextval('%s')".formatted(sequenceName);
+    }
+
+    @Override
+    public boolean requiresTransactionForCursor() {
+        return true;
+    }
 }
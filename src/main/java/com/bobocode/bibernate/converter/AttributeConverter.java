@@ -1,7 +1,11 @@
 package com.bobocode.bibernate.converter;
 
 /**
- * Class for converting JDBC based types to Java types.
+ * Class for converting JDBC based types to Java types and back.
+ * <p>
+ * Converters are resolved once per entity attribute by {@link ConverterRegistry} and a single instance of a converter
+ * class is shared between all attributes and sessions, so implementations must be stateless.
+ * @param <T> Java type of the attribute
  */
 public interface AttributeConverter<T> {
 
@@ -12,6 +16,16 @@ public interface AttributeConverter<T> {
      */
     T convertToEntityAttribute(Object dbData);
 
+    /**
+     * Converts value of the attribute to a value that is bound to JDBC statement parameter.
+     * By default, the value is bound as is
+     * @param attribute - value of the attribute, may be null
+     * @return - value to be bound
+     */
+    default Object convertToDatabaseColumn(T attribute) {
+        return attribute;
+    }
+
     /**
      * Checks if provided value can be converted by the current converter
      */
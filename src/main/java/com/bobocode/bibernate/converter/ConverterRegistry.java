@@ -0,0 +1,104 @@
+package com.bobocode.bibernate.converter;
+
+import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.annotation.Convert;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of {@link AttributeConverter converters} owned by a
+ * {@link com.bobocode.bibernate.metadata.EntityMetadataRegistry metadata registry}.
+ * <p>
+ * Converters are resolved once per entity attribute from the {@link Convert} annotation of its field or from the
+ * converter class recorded by a generated mapper. A single instance
+ * of every converter class is created and shared, built-in date converters are registered as their singletons.
+ */
+@Slf4j
+public class ConverterRegistry {
+
+    private final Map<Class<?>, AttributeConverter<?>> converters = new ConcurrentHashMap<>();
+
+    public ConverterRegistry() {
+        register(LocalDateTypeConverter.INSTANCE);
+        register(LocalTimeTypeConverter.INSTANCE);
+        register(LocalDateTimeTypeConverter.INSTANCE);
+        register(ZonedDateTimeTypeConverter.INSTANCE);
+    }
+
+    /**
+     * Returns converter specified by {@link Convert} annotation of provided field
+     * @return converter instance or {@code null} if field is not annotated
+     * @throws EntityMappingException if converter cannot be instantiated or it converts to a type that cannot be
+     *                                assigned to the field
+     */
+    public AttributeConverter<?> getConverter(Field field) {
+        Convert convert = field.getAnnotation(Convert.class);
+        if (convert == null) {
+            return null;
+        }
+        return getConverter(convert.value(), field.getName(), field.getType());
+    }
+
+    /**
+     * Returns shared instance of provided converter class of an attribute
+     * @param converterType converter class, {@code null} if attribute has no converter
+     * @param attributeName name of the attribute used in error messages
+     * @param attributeType declared type of the attribute
+     * @return converter instance or {@code null} if converter class is {@code null}
+     * @throws EntityMappingException if converter cannot be instantiated or it converts to a type that cannot be
+     *                                assigned to the attribute
+     */
+    public AttributeConverter<?> getConverter(Class<? extends AttributeConverter<?>> converterType,
+            String attributeName, Class<?> attributeType) {
+        if (converterType == null) {
+            return null;
+        }
+        Class<?> convertedType = getAttributeType(converterType);
+        if (convertedType != null && !Util.boxed(attributeType).isAssignableFrom(convertedType)) {
+            throw new EntityMappingException("Converter %s of field '%s' converts to %s that cannot be assigned to %s"
+                    .formatted(converterType.getName(), attributeName, convertedType.getName(),
+                            attributeType.getName()));
+        }
+        return converters.computeIfAbsent(converterType, ConverterRegistry::instantiate);
+    }
+
+    private void register(AttributeConverter<?> converter) {
+        converters.put(converter.getClass(), converter);
+    }
+
+    private static AttributeConverter<?> instantiate(Class<?> converterType) {
+        log.trace("Creating converter {}", converterType.getName());
+        try {
+            return (AttributeConverter<?>) converterType.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            throw new EntityMappingException("Converter %s must have public no-arg constructor"
+                    .formatted(converterType.getName()), e);
+        } catch (InvocationTargetException e) {
+            throw new EntityMappingException("Failed to create converter %s".formatted(converterType.getName()),
+                    e.getCause());
+        }
+    }
+
+    /**
+     * Returns type argument of {@link AttributeConverter} implemented by provided class, if it is declared
+     */
+    private static Class<?> getAttributeType(Class<?> converterType) {
+        for (Class<?> type = converterType; type != null; type = type.getSuperclass()) {
+            for (Type genericInterface : type.getGenericInterfaces()) {
+                if (genericInterface instanceof ParameterizedType parameterizedType
+                        && parameterizedType.getRawType() == AttributeConverter.class
+                        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> attributeType) {
+                    return attributeType;
+                }
+            }
+        }
+        return null;
+    }
+}
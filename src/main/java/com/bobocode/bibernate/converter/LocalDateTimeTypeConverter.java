@@ -2,22 +2,30 @@ package com.bobocode.bibernate.converter;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 
-public class LocalDateTimeTypeConverter implements AttributeConverter<LocalDateTime> {
+/**
+ * Converts {@link Timestamp} and {@link OffsetDateTime} values to {@link LocalDateTime}.
+ * Offset date-times are converted to the system default time zone
+ */
+public final class LocalDateTimeTypeConverter implements AttributeConverter<LocalDateTime> {
+
+    public static final LocalDateTimeTypeConverter INSTANCE = new LocalDateTimeTypeConverter();
+
+    private LocalDateTimeTypeConverter() {
+    }
 
     @Override
     public LocalDateTime convertToEntityAttribute(Object dbData) {
-        Timestamp timestamp = Timestamp.valueOf(dbData.toString());
-        return timestamp.toLocalDateTime();
+        if (dbData instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return ((OffsetDateTime) dbData).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
     }
 
     @Override
     public boolean isConvertable(Object value) {
-        if (value != null) {
-            Class<?> valuesType = value.getClass();
-            return valuesType.isAssignableFrom(Timestamp.class) ||
-                    valuesType.getSuperclass().isAssignableFrom(Timestamp.class);
-        }
-        return false;
+        return value instanceof Timestamp || value instanceof OffsetDateTime;
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,33 @@
 package com.bobocode.bibernate.converter;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
-public class LocalDateTypeConverter implements AttributeConverter<LocalDate> {
+/**
+ * Converts {@link Date}, {@link Timestamp} and {@link LocalDateTime} values to {@link LocalDate}
+ */
+public final class LocalDateTypeConverter implements AttributeConverter<LocalDate> {
+
+    public static final LocalDateTypeConverter INSTANCE = new LocalDateTypeConverter();
+
+    private LocalDateTypeConverter() {
+    }
 
     @Override
     public LocalDate convertToEntityAttribute(Object dbData) {
-        Date date = Date.valueOf(dbData.toString());
-        return date.toLocalDate();
+        if (dbData instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (dbData instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        return ((LocalDateTime) dbData).toLocalDate();
     }
 
     @Override
     public boolean isConvertable(Object value) {
-        if (value != null) {
-
-            Class<?> valuesType = value.getClass();
-            return valuesType.isAssignableFrom(java.util.Date.class) ||
-                    valuesType.getSuperclass().isAssignableFrom(java.util.Date.class);
-        }
-        return false;
+        return value instanceof Date || value instanceof Timestamp || value instanceof LocalDateTime;
     }
 }
-
@@ -1,23 +1,33 @@
 package com.bobocode.bibernate.converter;
 
+import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
-public class LocalTimeTypeConverter implements AttributeConverter<LocalTime> {
+/**
+ * Converts {@link Time}, {@link Timestamp} and {@link LocalDateTime} values to {@link LocalTime}
+ */
+public final class LocalTimeTypeConverter implements AttributeConverter<LocalTime> {
+
+    public static final LocalTimeTypeConverter INSTANCE = new LocalTimeTypeConverter();
+
+    private LocalTimeTypeConverter() {
+    }
 
     @Override
     public LocalTime convertToEntityAttribute(Object dbData) {
-        Timestamp timestamp = Timestamp.valueOf(dbData.toString());
-        return timestamp.toLocalDateTime().toLocalTime();
+        if (dbData instanceof Time time) {
+            return time.toLocalTime();
+        }
+        if (dbData instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalTime();
+        }
+        return ((LocalDateTime) dbData).toLocalTime();
     }
 
     @Override
     public boolean isConvertable(Object value) {
-        if (value != null) {
-            Class<?> valuesType = value.getClass();
-            return valuesType.isAssignableFrom(Timestamp.class) ||
-                    valuesType.getSuperclass().isAssignableFrom(Timestamp.class);
-        }
-        return false;
+        return value instanceof Time || value instanceof Timestamp || value instanceof LocalDateTime;
     }
 }
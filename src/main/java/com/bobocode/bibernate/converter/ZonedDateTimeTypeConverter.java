@@ -1,23 +1,37 @@
 package com.bobocode.bibernate.converter;
 
 import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+/**
+ * Converts {@link OffsetDateTime} and {@link Timestamp} values to {@link ZonedDateTime}.
+ * Timestamps are interpreted in the system default time zone. Zoned date-times are bound as {@link OffsetDateTime},
+ * as JDBC drivers do not support {@link ZonedDateTime} parameters
+ */
+public final class ZonedDateTimeTypeConverter implements AttributeConverter<ZonedDateTime> {
 
-public class ZonedDateTimeTypeConverter implements AttributeConverter<ZonedDateTime> {
+    public static final ZonedDateTimeTypeConverter INSTANCE = new ZonedDateTimeTypeConverter();
+
+    private ZonedDateTimeTypeConverter() {
+    }
 
     @Override
     public ZonedDateTime convertToEntityAttribute(Object dbData) {
-        return ZonedDateTime.parse(dbData.toString());
+        if (dbData instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toZonedDateTime();
+        }
+        return ((Timestamp) dbData).toLocalDateTime().atZone(ZoneId.systemDefault());
+    }
+
+    @Override
+    public Object convertToDatabaseColumn(ZonedDateTime attribute) {
+        return attribute == null ? null : attribute.toOffsetDateTime();
     }
 
     @Override
     public boolean isConvertable(Object value) {
-        if (value != null) {
-            Class<?> valuesType = value.getClass();
-            return valuesType.isAssignableFrom(Timestamp.class) ||
-                    valuesType.getSuperclass().isAssignableFrom(Timestamp.class);
-        }
-        return false;
+        return value instanceof OffsetDateTime || value instanceof Timestamp;
     }
 }
@@ -0,0 +1,71 @@
+package com.bobocode.bibernate.id;
+
+import com.bobocode.bibernate.annotation.SequenceOptimizer;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import lombok.Getter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Generates ids of an entity from a database sequence reserving a block of {@code allocationSize} ids per sequence
+ * call, see {@link SequenceOptimizer}. Ids of a block are handed out from memory, so saving thousands of entities costs
+ * a few sequence calls and their inserts can be batched.
+ * <p>
+ * The generator belongs to {@link com.bobocode.bibernate.metadata.EntityMetadata entity metadata} and is shared by all
+ * sessions of a session factory, it is thread-safe.
+ */
+public class SequenceIdGenerator {
+
+    @Getter
+    private final String sequenceName;
+    private final int allocationSize;
+    private final SequenceOptimizer optimizer;
+    private final boolean integerId;
+    private long nextId;
+    private long blockLimit;
+
+    /**
+     * @param sequenceName   name of the sequence
+     * @param allocationSize number of ids reserved per sequence call
+     * @param optimizer      how a block of ids is derived from sequence value
+     * @param idType         type of the id attribute, {@code Long} or {@code Integer}
+     * @throws EntityMappingException if id type is not supported or allocation size is not positive
+     */
+    public SequenceIdGenerator(String sequenceName, int allocationSize, SequenceOptimizer optimizer, Class<?> idType) {
+        if (allocationSize < 1) {
+            throw new EntityMappingException("Allocation size of sequence %s must be positive".formatted(sequenceName));
+        }
+        this.sequenceName = sequenceName;
+        this.allocationSize = allocationSize;
+        this.optimizer = optimizer;
+        this.integerId = checkIdType(idType) == Integer.class;
+    }
+
+    /**
+     * Checks that values of provided id type can be generated
+     * @return provided type
+     * @throws EntityMappingException if id type is neither {@code Long} nor {@code Integer}
+     */
+    public static Class<?> checkIdType(Class<?> idType) {
+        if (idType != Long.class && idType != Integer.class) {
+            throw new EntityMappingException("Generated id must be of Long or Integer type, but was " + idType.getName());
+        }
+        return idType;
+    }
+
+    /**
+     * Returns next id of the current block, reserving a new block with provided sequence call when the current one is
+     * exhausted
+     * @param nextSequenceValue selects next value of the sequence
+     * @return id of {@code Long} or {@code Integer} type
+     */
+    public synchronized Object generate(LongSupplier nextSequenceValue) {
+        if (nextId == blockLimit) {
+            long value = nextSequenceValue.getAsLong();
+            nextId = optimizer == SequenceOptimizer.HILO ? Math.multiplyExact(value, allocationSize) : value;
+            blockLimit = nextId + allocationSize;
+        }
+        long id = nextId++;
+        return integerId ? (Object) Math.toIntExact(id) : (Object) id;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bobocode.bibernate.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free generator of time-ordered version 7 {@link UUID UUIDs} as specified by RFC 9562: 48 bits of Unix
+ * millisecond timestamp, version, 12-bit counter, variant and 62 random bits.
+ * <p>
+ * Timestamp and counter are kept in a single {@link AtomicLong} and advanced with compare-and-set, so UUIDs returned by
+ * a generator strictly increase even when several threads generate them within the same millisecond. When the counter
+ * of a millisecond is exhausted, it carries into the timestamp, which then runs slightly ahead of the clock until the
+ * clock catches up. Random bits come from {@link ThreadLocalRandom}, so generating a UUID allocates nothing but the
+ * returned instance and needs no database round trip.
+ */
+public class UuidV7Generator {
+
+    private static final UuidV7Generator INSTANCE = new UuidV7Generator(System::currentTimeMillis);
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    /**
+     * Millisecond timestamp shifted left by {@link #COUNTER_BITS} combined with counter of the last generated UUID
+     */
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    /**
+     * @param clock supplies current time in milliseconds since Unix epoch
+     */
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns generator shared by all session factories, so UUIDs generated within a JVM are ordered
+     */
+    public static UuidV7Generator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Generates UUID greater than all UUIDs previously generated by this generator
+     */
+    public UUID generate() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long last;
+        long next;
+        do {
+            last = lastTimestampAndCounter.get();
+            next = Math.max(now, last + 1);
+        } while (!lastTimestampAndCounter.compareAndSet(last, next));
+        long mostSigBits = (next >>> COUNTER_BITS) << 16 | VERSION | (next & COUNTER_MASK);
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
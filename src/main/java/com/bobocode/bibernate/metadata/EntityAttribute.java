@@ -0,0 +1,156 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.converter.AttributeConverter;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Describes a single persistent field of an {@link EntityMetadata entity} and the table column it is mapped to.
+ * Instances are immutable and resolved once, so they can be safely shared between sessions.
+ */
+@Getter
+public class EntityAttribute {
+
+    private static final MethodHandle SET_OBJECT;
+    private static final MethodHandle CONVERT_TO_DATABASE_COLUMN;
+
+    static {
+        try {
+            SET_OBJECT = MethodHandles.publicLookup().findVirtual(PreparedStatement.class, "setObject",
+                    MethodType.methodType(void.class, int.class, Object.class));
+            CONVERT_TO_DATABASE_COLUMN = MethodHandles.publicLookup().findVirtual(EntityAttribute.class,
+                    "convertToDatabaseColumn", MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final String name;
+    private final String columnName;
+    private final Class<?> type;
+    /**
+     * Wrapper type of a primitive attribute type, the attribute type itself otherwise
+     */
+    @Getter(AccessLevel.NONE)
+    private final Class<?> boxedType;
+    private final boolean id;
+    private final AttributeConverter<?> converter;
+    private final TypeHandler typeHandler;
+    @Getter(AccessLevel.NONE)
+    private final PropertyAccessor accessor;
+    /**
+     * Handle of {@code (PreparedStatement, int, Object)void} type that binds value of the attribute of provided entity
+     */
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle binder;
+
+    EntityAttribute(String name, Class<?> type, String columnName, boolean id, AttributeConverter<?> converter,
+            PropertyAccessor accessor) {
+        this.name = name;
+        this.columnName = columnName;
+        this.type = type;
+        this.boxedType = Util.boxed(type);
+        this.id = id;
+        this.converter = converter;
+        this.typeHandler = TypeHandler.forType(type);
+        this.accessor = accessor;
+        this.binder = createBinder();
+    }
+
+    /**
+     * Attributes with a converter bind converted value with {@link PreparedStatement#setObject(int, Object)},
+     * other attributes use typed binder of their {@link TypeHandler}
+     */
+    private MethodHandle createBinder() {
+        MethodHandle getter = accessor.getGetterHandle();
+        if (converter != null) {
+            MethodHandle getConverted = MethodHandles.filterReturnValue(
+                    getter.asType(MethodType.methodType(Object.class, Object.class)),
+                    CONVERT_TO_DATABASE_COLUMN.bindTo(this));
+            return MethodHandles.filterArguments(SET_OBJECT, 2, getConverted);
+        }
+        return MethodHandles.filterArguments(typeHandler.getBinder(), 2, getter)
+                .asType(MethodType.methodType(void.class, PreparedStatement.class, int.class, Object.class));
+    }
+
+    /**
+     * Reads value of the attribute from provided entity
+     */
+    public Object getValue(Object entity) {
+        return accessor.get(entity);
+    }
+
+    /**
+     * Writes value of the attribute to provided entity
+     */
+    public void setValue(Object entity, Object value) {
+        accessor.set(entity, value);
+    }
+
+    /**
+     * Binds value of the attribute of provided entity to the statement parameter with provided index using typed
+     * JDBC setter of the attribute type, so primitive values are not boxed
+     */
+    @SuppressWarnings("java:S1181")
+    public void bindValue(PreparedStatement statement, int parameterIndex, Object entity) throws SQLException {
+        try {
+            binder.invokeExact(statement, parameterIndex, entity);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Failed to bind value of attribute '%s'".formatted(name), e);
+        }
+    }
+
+    /**
+     * Binds provided value of the attribute type to the statement parameter with provided index. Values are converted
+     * by the attribute converter, if any, and bound with typed JDBC setter of the attribute type, values of other
+     * types are bound with {@link PreparedStatement#setObject(int, Object)}.
+     */
+    public void bindParameter(PreparedStatement statement, int parameterIndex, Object value) throws SQLException {
+        if (converter != null) {
+            statement.setObject(parameterIndex, convertToDatabaseColumn(value));
+        } else if (boxedType.isInstance(value)) {
+            typeHandler.bind(statement, parameterIndex, value);
+        } else {
+            statement.setObject(parameterIndex, value);
+        }
+    }
+
+    /**
+     * @return handle of {@code (Object, type)void} type, where {@code type} is the declared type of the attribute,
+     * that writes value of the attribute to provided entity
+     */
+    public MethodHandle getSetterHandle() {
+        return accessor.getSetterHandle();
+    }
+
+    /**
+     * Converts value read from JDBC into the Java type of the attribute, if attribute has a converter
+     */
+    public Object convertToJavaType(Object value) {
+        if (converter != null && converter.isConvertable(value)) {
+            return converter.convertToEntityAttribute(value);
+        }
+        return value;
+    }
+
+    /**
+     * Converts value of the attribute into the value bound to JDBC statement, if attribute has a converter
+     */
+    @SuppressWarnings("unchecked")
+    public Object convertToDatabaseColumn(Object value) {
+        if (converter != null) {
+            return ((AttributeConverter<Object>) converter).convertToDatabaseColumn(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,280 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.converter.AttributeConverter;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.id.SequenceIdGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.bobocode.bibernate.configuration.Dialect.COMMA_SEPARATOR;
+import static com.bobocode.bibernate.configuration.Dialect.PLACEHOLDER;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_BY_IDS_TEMPLATE;
+
+/**
+ * Immutable mapping information of an {@link com.bobocode.bibernate.annotation.Entity entity} class:
+ * table name, ordered list of persistent attributes, id attribute, {@link GeneratedValue id generation} and
+ * {@link EntityQueries CRUD statements}.
+ * <p>
+ * Metadata is built once per {@link com.bobocode.bibernate.session.SessionFactory session factory}
+ * by {@link EntityMetadataRegistry} and is shared between all sessions. When entity has a
+ * {@link GeneratedEntityMapper generated mapper}, parameters are bound and snapshots are taken and compared by the
+ * mapper instead of iterating over attributes.
+ * @param <T> type of entity
+ */
+@Getter
+public class EntityMetadata<T> {
+
+    private static final int MAX_CACHED_ROW_MAPPERS = 32;
+
+    private final Class<T> type;
+    private final String tableName;
+    private final List<EntityAttribute> attributes;
+    private final EntityAttribute idAttribute;
+    private final EntityQueries queries;
+    /**
+     * Strategy of id generation, {@code null} when ids are assigned by application
+     */
+    private final GenerationType generationType;
+    /**
+     * Generator of {@link GenerationType#SEQUENCE} ids, {@code null} for other strategies
+     */
+    private final SequenceIdGenerator sequenceIdGenerator;
+    /**
+     * Handle of {@code ()Object} type that creates new instance of entity
+     */
+    private final MethodHandle instantiator;
+    /**
+     * Mapper generated at compile time, {@code null} if entity is mapped by reflection
+     */
+    private final GeneratedEntityMapper<T> generatedMapper;
+    @Getter(AccessLevel.NONE)
+    private final AttributeConverter<?>[] converters;
+    @Getter(AccessLevel.NONE)
+    private final Map<List<String>, EntityRowMapper<T>> rowMappers = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, String> selectByIdsQueries = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, ProjectionMapper<?>> projectionMappers = new ConcurrentHashMap<>();
+
+    EntityMetadata(Class<T> type, String tableName, List<EntityAttribute> attributes, IdGeneration idGeneration,
+            MethodHandle instantiator, GeneratedEntityMapper<T> generatedMapper) {
+        this.type = type;
+        this.tableName = tableName;
+        this.attributes = List.copyOf(attributes);
+        this.idAttribute = attributes.stream()
+                .filter(EntityAttribute::isId)
+                .findFirst()
+                .orElseThrow(() -> new EntityMappingException("Entity class must have field annotated with @Id"));
+        this.queries = EntityQueries.of(tableName, this.attributes, idAttribute);
+        this.generationType = idGeneration == null ? null : idGeneration.strategy();
+        this.sequenceIdGenerator = generationType == GenerationType.SEQUENCE
+                ? createSequenceIdGenerator(idGeneration)
+                : null;
+        if (generationType == GenerationType.UUID && idAttribute.getType() != UUID.class) {
+            throw new EntityMappingException("Generated UUID id must be of java.util.UUID type, but was "
+                    + idAttribute.getType().getName());
+        } else if (generationType != null && generationType != GenerationType.UUID) {
+            SequenceIdGenerator.checkIdType(idAttribute.getType());
+        }
+        this.instantiator = instantiator;
+        this.generatedMapper = generatedMapper;
+        this.converters = this.attributes.stream()
+                .map(EntityAttribute::getConverter)
+                .toArray(AttributeConverter<?>[]::new);
+    }
+
+    private SequenceIdGenerator createSequenceIdGenerator(IdGeneration idGeneration) {
+        String sequenceName = idGeneration.sequenceName().isEmpty()
+                ? tableName + "_seq"
+                : idGeneration.sequenceName();
+        return new SequenceIdGenerator(sequenceName, idGeneration.allocationSize(), idGeneration.optimizer(),
+                idAttribute.getType());
+    }
+
+    /**
+     * Creates new instance of entity using its public no-arg constructor
+     */
+    @SuppressWarnings("java:S1181")
+    public T newInstance() {
+        try {
+            return type.cast((Object) instantiator.invokeExact());
+        } catch (Throwable e) {
+            throw new EntityMappingException("Entity mapping error", e);
+        }
+    }
+
+    /**
+     * Returns {@link EntityRowMapper} for the column layout of provided result set. Column indexes are resolved from
+     * {@link ResultSetMetaData} once per result set and mappers are cached by layout, so they are shared by all sessions
+     * of a session factory.
+     * @throws SQLException if result set metadata cannot be read
+     */
+    public EntityRowMapper<T> getRowMapper(ResultSet resultSet) throws SQLException {
+        List<String> columnLabels = EntityRowMapper.getColumnLabels(resultSet);
+        EntityRowMapper<T> rowMapper = rowMappers.get(columnLabels);
+        if (rowMapper == null) {
+            rowMapper = EntityRowMapper.create(this, columnLabels);
+            if (rowMappers.size() < MAX_CACHED_ROW_MAPPERS) {
+                rowMappers.putIfAbsent(columnLabels, rowMapper);
+            }
+        }
+        return rowMapper;
+    }
+
+    /**
+     * Returns {@link ProjectionMapper} of provided record type, mappers are created once per record type
+     * @throws com.bobocode.bibernate.exception.EntityMappingException if provided type is not a valid projection
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ProjectionMapper<R> getProjectionMapper(Class<R> projectionType) {
+        return (ProjectionMapper<R>) projectionMappers.computeIfAbsent(projectionType,
+                type -> ProjectionMapper.create(this, type));
+    }
+
+    /**
+     * Returns query selecting rows by {@code idCount} ids with {@code IN} clause. Queries are cached by number of ids.
+     */
+    public String getSelectByIdsQuery(int idCount) {
+        return selectByIdsQueries.computeIfAbsent(idCount, count -> SELECT_ALL_BY_IDS_TEMPLATE.formatted(tableName,
+                idAttribute.getColumnName(), String.join(COMMA_SEPARATOR, Collections.nCopies(count, PLACEHOLDER))));
+    }
+
+    /**
+     * Returns attribute with provided field name
+     * @throws EntityMappingException if entity has no such attribute
+     */
+    public EntityAttribute getAttribute(String name) {
+        for (EntityAttribute attribute : attributes) {
+            if (attribute.getName().equals(name)) {
+                return attribute;
+            }
+        }
+        throw new EntityMappingException("Entity %s has no attribute '%s'".formatted(type.getName(), name));
+    }
+
+    /**
+     * Returns value of the id attribute of provided entity
+     */
+    public Object getIdValue(Object entity) {
+        return idAttribute.getValue(entity);
+    }
+
+    /**
+     * Binds values of all attributes of provided entity in the order of columns of {@link EntityQueries#insert()}
+     * @return index of the parameter following the bound ones
+     */
+    public int bindInsertParameters(PreparedStatement statement, int startIndex, Object entity) throws SQLException {
+        if (generatedMapper != null) {
+            return generatedMapper.bindAll(statement, startIndex, type.cast(entity), converters);
+        }
+        int index = startIndex;
+        for (EntityAttribute attribute : attributes) {
+            attribute.bindValue(statement, index++, entity);
+        }
+        return index;
+    }
+
+    /**
+     * Binds values of non-id attributes of provided entity in the order of columns of
+     * {@link EntityQueries#insertWithoutId()}
+     * @return index of the parameter following the bound ones
+     */
+    public int bindInsertWithoutIdParameters(PreparedStatement statement, int startIndex, Object entity)
+            throws SQLException {
+        if (generatedMapper != null) {
+            return generatedMapper.bindNonId(statement, startIndex, type.cast(entity), converters);
+        }
+        int index = startIndex;
+        for (EntityAttribute attribute : attributes) {
+            if (!attribute.isId()) {
+                attribute.bindValue(statement, index++, entity);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Binds values of non-id attributes followed by id value of provided entity in the order of parameters of
+     * {@link EntityQueries#updateById()}
+     * @return index of the parameter following the bound ones
+     */
+    public int bindUpdateParameters(PreparedStatement statement, int startIndex, Object entity) throws SQLException {
+        return bindIdParameter(statement, bindInsertWithoutIdParameters(statement, startIndex, entity), entity);
+    }
+
+    /**
+     * Binds id value of provided entity
+     * @return index of the parameter following the bound one
+     */
+    public int bindIdParameter(PreparedStatement statement, int index, Object entity) throws SQLException {
+        if (generatedMapper != null) {
+            return generatedMapper.bindId(statement, index, type.cast(entity), converters);
+        }
+        idAttribute.bindValue(statement, index, entity);
+        return index + 1;
+    }
+
+    /**
+     * @return converters of attributes in the order of {@link #getAttributes()}, {@code null} for attributes without one
+     */
+    AttributeConverter<?>[] getConverters() {
+        return converters;
+    }
+
+    /**
+     * @return values of all attributes of provided entity in the order of {@link #getAttributes()}
+     */
+    public Object[] getSnapshot(Object entity) {
+        if (generatedMapper != null) {
+            return generatedMapper.snapshot(type.cast(entity));
+        }
+        Object[] snapshot = new Object[attributes.size()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = attributes.get(i).getValue(entity);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks whether value of any attribute of provided entity differs from the one in its {@link #getSnapshot(Object)
+     * snapshot}
+     */
+    public boolean isDirty(Object entity, Object[] snapshot) {
+        if (generatedMapper != null) {
+            return generatedMapper.isDirty(type.cast(entity), snapshot);
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            if (!Objects.equals(attributes.get(i).getValue(entity), snapshot[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies state of all non-id attributes from the source entity to the target one
+     * @return target entity
+     */
+    public T mergeEntities(T source, T target) {
+        for (EntityAttribute attribute : attributes) {
+            if (!attribute.isId()) {
+                attribute.setValue(target, attribute.getValue(source));
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,142 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.Validator;
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.converter.ConverterRegistry;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of {@link EntityMetadata} owned by a {@link com.bobocode.bibernate.session.SessionFactory}.
+ * Metadata of an entity class is validated and built on the first request and then reused by all sessions,
+ * so reflective mapping lookups are not repeated on every session operation. Metadata of entities with a
+ * {@link GeneratedEntityMapper generated mapper} is built from the mapping recorded by the mapper without reflection.
+ */
+@Slf4j
+public class EntityMetadataRegistry {
+
+    private final Map<Class<?>, EntityMetadata<?>> metadataMap = new ConcurrentHashMap<>();
+    private final GeneratedMapperRegistry generatedMapperRegistry;
+    private final ConverterRegistry converterRegistry = new ConverterRegistry();
+
+    public EntityMetadataRegistry() {
+        this(getClassLoader());
+    }
+
+    /**
+     * @param classLoader class loader used to find {@link GeneratedEntityMapper generated mappers}
+     */
+    public EntityMetadataRegistry(ClassLoader classLoader) {
+        this.generatedMapperRegistry = new GeneratedMapperRegistry(classLoader);
+    }
+
+    /**
+     * Returns metadata of provided entity class building it if it was not requested before
+     * @param type entity class
+     * @param <T>  type of entity
+     * @return {@link EntityMetadata} of entity class
+     * @throws EntityMappingException if provided class is not a valid entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityMetadata<T> getMetadata(Class<T> type) {
+        Objects.requireNonNull(type, "[type] argument must be not null");
+        return (EntityMetadata<T>) metadataMap.computeIfAbsent(type, this::buildMetadata);
+    }
+
+    private <T> EntityMetadata<T> buildMetadata(Class<T> type) {
+        log.trace("Building metadata of entity {}", type.getName());
+        return generatedMapperRegistry.getMapper(type)
+                .map(this::buildGeneratedMetadata)
+                .orElseGet(() -> buildReflectiveMetadata(type));
+    }
+
+    private <T> EntityMetadata<T> buildReflectiveMetadata(Class<T> type) {
+        Validator.validateEntity(type);
+        List<EntityAttribute> attributes = new ArrayList<>();
+        IdGeneration idGeneration = null;
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            boolean id = field.isAnnotationPresent(Id.class);
+            if (id) {
+                idGeneration = IdGeneration.of(field.getAnnotation(GeneratedValue.class));
+            }
+            attributes.add(new EntityAttribute(field.getName(), field.getType(), Util.getColumnName(field), id,
+                    converterRegistry.getConverter(field), new MethodHandlePropertyAccessor(field)));
+        }
+        return new EntityMetadata<>(type, Util.getTableName(type), attributes, idGeneration, getInstantiator(type),
+                null);
+    }
+
+    /**
+     * Builds metadata from the attributes recorded by generated mapper without scanning entity fields, attribute
+     * values are accessed through typed static accessors of the mapper class
+     */
+    private <T> EntityMetadata<T> buildGeneratedMetadata(GeneratedEntityMapper<T> mapper) {
+        List<EntityAttribute> attributes = new ArrayList<>();
+        for (GeneratedAttribute attribute : mapper.getAttributes()) {
+            attributes.add(new EntityAttribute(attribute.name(), attribute.type(), attribute.columnName(),
+                    attribute.id(), converterRegistry.getConverter(attribute.converterType(), attribute.name(),
+                    attribute.type()), getGeneratedAccessor(mapper, attribute)));
+        }
+        return new EntityMetadata<>(mapper.getEntityType(), mapper.getTableName(), attributes,
+                mapper.getIdGeneration(), getGeneratedInstantiator(mapper), mapper);
+    }
+
+    private static PropertyAccessor getGeneratedAccessor(GeneratedEntityMapper<?> mapper,
+            GeneratedAttribute attribute) {
+        Class<?> mapperType = mapper.getClass();
+        Class<?> entityType = mapper.getEntityType();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            return new MethodHandlePropertyAccessor(
+                    lookup.findStatic(mapperType, GeneratedEntityMapper.GETTER_PREFIX + attribute.name(),
+                            MethodType.methodType(attribute.type(), entityType)),
+                    lookup.findStatic(mapperType, GeneratedEntityMapper.SETTER_PREFIX + attribute.name(),
+                            MethodType.methodType(void.class, entityType, attribute.type())));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new EntityMappingException("Generated mapper %s has no accessors of attribute '%s'"
+                    .formatted(mapperType.getName(), attribute.name()), e);
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : EntityMetadataRegistry.class.getClassLoader();
+    }
+
+    private static MethodHandle getInstantiator(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new EntityMappingException("Entity %s must have public no-arg constructor".formatted(type.getName()), e);
+        }
+    }
+
+    private static MethodHandle getGeneratedInstantiator(GeneratedEntityMapper<?> mapper) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(GeneratedEntityMapper.class, "newInstance", MethodType.methodType(Object.class))
+                    .bindTo(mapper);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new EntityMappingException("Cannot access generated mapper of %s"
+                    .formatted(mapper.getEntityType().getName()), e);
+        }
+    }
+}
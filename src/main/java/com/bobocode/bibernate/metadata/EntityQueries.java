@@ -0,0 +1,55 @@
+package com.bobocode.bibernate.metadata;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.bobocode.bibernate.configuration.Dialect.COMMA_SEPARATOR;
+import static com.bobocode.bibernate.configuration.Dialect.DELETE_BY_ID_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.INSERT_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.NAME_EQUALS_VALUE_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.PLACEHOLDER;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_BY_ID_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.UPDATE_TEMPLATE;
+
+/**
+ * CRUD SQL statements of an entity. They are generated once together with {@link EntityMetadata}, so every
+ * execution reuses the same string instance, which also lets drivers and databases cache statements by SQL text.
+ * @param insert     inserts all columns in the order of {@link EntityMetadata#getAttributes() attributes}
+ * @param selectById selects row by id column
+ * @param selectAll  selects all rows
+ * @param updateById updates all non-id columns, in the order of attributes, of the row with provided id
+ * @param deleteById deletes row by id column
+ * @param insertWithoutId inserts all non-id columns, in the order of attributes, leaving id to identity column
+ */
+public record EntityQueries(String insert, String selectById, String selectAll, String updateById, String deleteById,
+                            String insertWithoutId) {
+
+    static EntityQueries of(String tableName, List<EntityAttribute> attributes, EntityAttribute idAttribute) {
+        String idColumn = idAttribute.getColumnName();
+        String columns = attributes.stream()
+                .map(EntityAttribute::getColumnName)
+                .collect(Collectors.joining(COMMA_SEPARATOR));
+        String placeholders = attributes.stream()
+                .map(attribute -> PLACEHOLDER)
+                .collect(Collectors.joining(COMMA_SEPARATOR));
+        String setClause = attributes.stream()
+                .filter(attribute -> !attribute.isId())
+                .map(attribute -> NAME_EQUALS_VALUE_TEMPLATE.formatted(attribute.getColumnName()))
+                .collect(Collectors.joining(COMMA_SEPARATOR));
+        List<EntityAttribute> nonIdAttributes = attributes.stream()
+                .filter(attribute -> !attribute.isId())
+                .toList();
+        return new EntityQueries(
+                INSERT_TEMPLATE.formatted(tableName, columns, placeholders),
+                SELECT_ALL_BY_ID_TEMPLATE.formatted(tableName, idColumn),
+                SELECT_ALL_TEMPLATE.formatted(tableName),
+                UPDATE_TEMPLATE.formatted(tableName, setClause, NAME_EQUALS_VALUE_TEMPLATE.formatted(idColumn)),
+                DELETE_BY_ID_TEMPLATE.formatted(tableName, idColumn),
+                INSERT_TEMPLATE.formatted(tableName, nonIdAttributes.stream()
+                        .map(EntityAttribute::getColumnName)
+                        .collect(Collectors.joining(COMMA_SEPARATOR)), nonIdAttributes.stream()
+                        .map(attribute -> PLACEHOLDER)
+                        .collect(Collectors.joining(COMMA_SEPARATOR))));
+    }
+}
@@ -0,0 +1,147 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.converter.AttributeConverter;
+import com.bobocode.bibernate.exception.EntityMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps current row of a {@link ResultSet} with a particular column layout to a new entity instance.
+ * <p>
+ * On creation, indexes of columns of all entity attributes are resolved from the column labels of the result set.
+ * Typed column reads by index of {@link TypeHandler type handlers}, conversions and attribute setters are composed
+ * into a single {@link MethodHandle} of {@code (ResultSet)Object} type, so primitive values are not boxed on the way
+ * from the result set to the entity. The JVM compiles such a handle into straight-line code (backed by hidden classes),
+ * so mapping a row neither looks up columns by name nor iterates over attributes or performs reflective calls.
+ * Entities with a {@link GeneratedEntityMapper generated mapper} are hydrated by its generated code instead.
+ * @param <T> type of entity
+ */
+public class EntityRowMapper<T> implements RowMapper<T> {
+
+    private static final MethodHandle GET_OBJECT_BY_INDEX;
+    private static final MethodHandle CONVERT_TO_JAVA_TYPE;
+    private static final MethodHandle HYDRATE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            GET_OBJECT_BY_INDEX = lookup.findVirtual(ResultSet.class, "getObject",
+                    MethodType.methodType(Object.class, int.class));
+            CONVERT_TO_JAVA_TYPE = lookup.findVirtual(EntityAttribute.class, "convertToJavaType",
+                    MethodType.methodType(Object.class, Object.class));
+            HYDRATE = lookup.findVirtual(GeneratedEntityMapper.class, "hydrate", MethodType.methodType(Object.class,
+                    ResultSet.class, int[].class, AttributeConverter[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Class<T> type;
+    private final MethodHandle mapper;
+
+    private EntityRowMapper(Class<T> type, MethodHandle mapper) {
+        this.type = type;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param metadata     metadata of the entity
+     * @param columnLabels lower-cased labels of result set columns in the order of column indexes
+     * @throws EntityMappingException if result set has no column for some of the entity attributes
+     */
+    static <T> EntityRowMapper<T> create(EntityMetadata<T> metadata, List<String> columnLabels) {
+        List<EntityAttribute> attributes = metadata.getAttributes();
+        if (metadata.getGeneratedMapper() != null) {
+            int[] columnIndexes = new int[attributes.size()];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                columnIndexes[i] = getColumnIndex(metadata, attributes.get(i), columnLabels);
+            }
+            MethodHandle hydrate = MethodHandles.insertArguments(HYDRATE.bindTo(metadata.getGeneratedMapper()), 1,
+                    columnIndexes, metadata.getConverters());
+            return new EntityRowMapper<>(metadata.getType(), hydrate);
+        }
+        // (Object entity, ResultSet resultSet)Object - returns populated entity
+        MethodHandle populate = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, ResultSet.class);
+        for (int i = attributes.size() - 1; i >= 0; i--) {
+            EntityAttribute attribute = attributes.get(i);
+            populate = MethodHandles.foldArguments(populate,
+                    createAttributeWriter(attribute, getColumnIndex(metadata, attribute, columnLabels)));
+        }
+        MethodHandle instantiate = MethodHandles.dropArguments(metadata.getInstantiator(), 0, ResultSet.class);
+        return new EntityRowMapper<>(metadata.getType(), MethodHandles.foldArguments(populate, instantiate));
+    }
+
+    private static int getColumnIndex(EntityMetadata<?> metadata, EntityAttribute attribute,
+            List<String> columnLabels) {
+        int columnIndex = columnLabels.indexOf(toColumnLabel(attribute.getColumnName())) + 1;
+        if (columnIndex == 0) {
+            throw new EntityMappingException("Column '%s' of entity %s is not found in result set"
+                    .formatted(attribute.getColumnName(), metadata.getType().getName()));
+        }
+        return columnIndex;
+    }
+
+    /**
+     * Creates handle of {@code (Object entity, ResultSet resultSet)void} type that reads column value of provided
+     * attribute by its index and sets it to the entity
+     */
+    private static MethodHandle createAttributeWriter(EntityAttribute attribute, int columnIndex) {
+        MethodHandle read = createReader(attribute, attribute.getType());
+        return MethodHandles.filterArguments(attribute.getSetterHandle(), 1,
+                MethodHandles.insertArguments(read, 1, columnIndex));
+    }
+
+    /**
+     * Creates handle of {@code (ResultSet, int)type} type that reads column value of provided attribute by index.
+     * Attributes with a converter read the column as an object and convert it, other attributes use typed reader of
+     * the {@link TypeHandler} of provided type
+     */
+    static MethodHandle createReader(EntityAttribute attribute, Class<?> type) {
+        if (attribute.getConverter() != null) {
+            return MethodHandles.filterReturnValue(GET_OBJECT_BY_INDEX, CONVERT_TO_JAVA_TYPE.bindTo(attribute))
+                    .asType(MethodType.methodType(type, ResultSet.class, int.class));
+        }
+        return TypeHandler.forType(type).getReader();
+    }
+
+    /**
+     * Reads normalized labels of result set columns in the order of column indexes
+     * @throws SQLException if result set metadata cannot be read
+     */
+    static List<String> getColumnLabels(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        List<String> columnLabels = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnLabels.add(toColumnLabel(resultSetMetaData.getColumnLabel(i)));
+        }
+        return columnLabels;
+    }
+
+    /**
+     * Normalizes column name or label, so labels reported by drivers in different cases match column names
+     */
+    static String toColumnLabel(String columnName) {
+        return columnName.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    @SuppressWarnings("java:S1181")
+    public T mapRow(ResultSet resultSet) throws SQLException {
+        try {
+            return type.cast((Object) mapper.invokeExact(resultSet));
+        } catch (SQLException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Entity mapping error", e);
+        }
+    }
+}
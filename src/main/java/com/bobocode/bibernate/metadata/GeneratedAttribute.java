@@ -0,0 +1,15 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.converter.AttributeConverter;
+
+/**
+ * Mapping of an entity field resolved from its annotations at compile time by {@code bibernate-processor}
+ * @param name          name of the field
+ * @param columnName    name of the column the field is mapped to
+ * @param type          declared type of the field
+ * @param id            whether the field is annotated with {@link com.bobocode.bibernate.annotation.Id}
+ * @param converterType converter specified by {@link com.bobocode.bibernate.annotation.Convert}, {@code null} if none
+ */
+public record GeneratedAttribute(String name, String columnName, Class<?> type, boolean id,
+                                 Class<? extends AttributeConverter<?>> converterType) {
+}
@@ -0,0 +1,97 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.converter.AttributeConverter;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Mapper of a single entity class generated at compile time by {@code bibernate-processor} and registered as
+ * {@link java.util.ServiceLoader service provider}.
+ * <p>
+ * When a mapper is present for an entity, {@link EntityMetadataRegistry} builds its metadata from
+ * {@link #getAttributes()} without scanning entity fields. Rows are hydrated, parameters are bound and snapshots are
+ * compared by generated straight-line code that calls typed entity accessors and typed JDBC getters and setters, so
+ * primitive values are not boxed. Besides these methods, the mapper class declares typed static accessors
+ * {@code static type get_<field>(Entity)} and {@code static void set_<field>(Entity, type)} of every attribute used
+ * for single attribute access.
+ * <p>
+ * Arrays of converters passed to the methods are indexed by attribute and hold converters of attributes with
+ * {@link com.bobocode.bibernate.annotation.Convert}, other elements are {@code null}.
+ * @param <T> type of entity
+ */
+public interface GeneratedEntityMapper<T> {
+
+    /**
+     * Prefix of the name of a static typed getter of an attribute
+     */
+    String GETTER_PREFIX = "get_";
+    /**
+     * Prefix of the name of a static typed setter of an attribute
+     */
+    String SETTER_PREFIX = "set_";
+
+    /**
+     * @return entity class handled by this mapper
+     */
+    Class<T> getEntityType();
+
+    /**
+     * @return name of the table the entity is mapped to
+     */
+    String getTableName();
+
+    /**
+     * @return persistent attributes in the order of declaration of entity fields
+     */
+    List<GeneratedAttribute> getAttributes();
+
+    /**
+     * @return id generation settings, {@code null} if id is assigned by application
+     */
+    IdGeneration getIdGeneration();
+
+    /**
+     * Creates new instance of entity
+     */
+    T newInstance();
+
+    /**
+     * Creates entity from the current row of provided result set
+     * @param columnIndexes indexes of columns of attributes in the order of {@link #getAttributes()}
+     */
+    T hydrate(ResultSet resultSet, int[] columnIndexes, AttributeConverter<?>[] converters) throws SQLException;
+
+    /**
+     * Binds values of all attributes of provided entity in the order of attributes
+     * @return index of the parameter following the bound ones
+     */
+    int bindAll(PreparedStatement statement, int startIndex, T entity, AttributeConverter<?>[] converters)
+            throws SQLException;
+
+    /**
+     * Binds values of non-id attributes of provided entity in the order of attributes
+     * @return index of the parameter following the bound ones
+     */
+    int bindNonId(PreparedStatement statement, int startIndex, T entity, AttributeConverter<?>[] converters)
+            throws SQLException;
+
+    /**
+     * Binds id value of provided entity
+     * @return index of the parameter following the bound one
+     */
+    int bindId(PreparedStatement statement, int index, T entity, AttributeConverter<?>[] converters)
+            throws SQLException;
+
+    /**
+     * @return values of all attributes of provided entity in the order of attributes
+     */
+    Object[] snapshot(T entity);
+
+    /**
+     * Checks whether value of any attribute of provided entity differs from the one in its {@link #snapshot(Object)}
+     */
+    boolean isDirty(T entity, Object[] snapshot);
+}
@@ -0,0 +1,31 @@
+package com.bobocode.bibernate.metadata;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Holds {@link GeneratedEntityMapper generated entity mappers} found on the classpath with {@link ServiceLoader}
+ */
+@Slf4j
+class GeneratedMapperRegistry {
+
+    private final Map<Class<?>, GeneratedEntityMapper<?>> mappers = new HashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    GeneratedMapperRegistry(ClassLoader classLoader) {
+        for (GeneratedEntityMapper mapper : ServiceLoader.load(GeneratedEntityMapper.class, classLoader)) {
+            log.trace("Found generated mapper {} of entity {}", mapper.getClass().getName(),
+                    mapper.getEntityType().getName());
+            mappers.put(mapper.getEntityType(), mapper);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Optional<GeneratedEntityMapper<T>> getMapper(Class<T> type) {
+        return Optional.ofNullable((GeneratedEntityMapper<T>) mappers.get(type));
+    }
+}
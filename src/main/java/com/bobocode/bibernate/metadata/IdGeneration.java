@@ -0,0 +1,24 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.annotation.SequenceOptimizer;
+
+/**
+ * Id generation settings of an entity declared by {@link GeneratedValue} on its id field
+ * @param sequenceName name of the sequence, empty for the default {@code <table name>_seq}
+ */
+public record IdGeneration(GenerationType strategy, String sequenceName, int allocationSize,
+                           SequenceOptimizer optimizer) {
+
+    /**
+     * @return settings of provided annotation, {@code null} if annotation is {@code null}
+     */
+    static IdGeneration of(GeneratedValue generatedValue) {
+        if (generatedValue == null) {
+            return null;
+        }
+        return new IdGeneration(generatedValue.strategy(), generatedValue.sequenceName(),
+                generatedValue.allocationSize(), generatedValue.optimizer());
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.bibernate.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Null-aware typed reads and writes of JDBC values. Wrapper values are read with primitive getters and
+ * {@link ResultSet#wasNull()} and bound with primitive setters or {@link PreparedStatement#setNull(int, int)}, so
+ * {@link TypeHandler type handlers} and mappers generated by {@code bibernate-processor} read and bind values the
+ * same way.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JdbcValues {
+
+    public static Long getLong(ResultSet resultSet, int columnIndex) throws SQLException {
+        long value = resultSet.getLong(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static Integer getInteger(ResultSet resultSet, int columnIndex) throws SQLException {
+        int value = resultSet.getInt(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static Short getShort(ResultSet resultSet, int columnIndex) throws SQLException {
+        short value = resultSet.getShort(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static Double getDouble(ResultSet resultSet, int columnIndex) throws SQLException {
+        double value = resultSet.getDouble(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static Float getFloat(ResultSet resultSet, int columnIndex) throws SQLException {
+        float value = resultSet.getFloat(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static Boolean getBoolean(ResultSet resultSet, int columnIndex) throws SQLException {
+        boolean value = resultSet.getBoolean(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    }
+
+    public static ZonedDateTime getZonedDateTime(ResultSet resultSet, int columnIndex) throws SQLException {
+        OffsetDateTime value = resultSet.getObject(columnIndex, OffsetDateTime.class);
+        return value == null ? null : value.toZonedDateTime();
+    }
+
+    public static void setLong(PreparedStatement statement, int parameterIndex, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.BIGINT);
+        } else {
+            statement.setLong(parameterIndex, value);
+        }
+    }
+
+    public static void setInteger(PreparedStatement statement, int parameterIndex, Integer value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.INTEGER);
+        } else {
+            statement.setInt(parameterIndex, value);
+        }
+    }
+
+    public static void setShort(PreparedStatement statement, int parameterIndex, Short value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.SMALLINT);
+        } else {
+            statement.setShort(parameterIndex, value);
+        }
+    }
+
+    public static void setDouble(PreparedStatement statement, int parameterIndex, Double value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.DOUBLE);
+        } else {
+            statement.setDouble(parameterIndex, value);
+        }
+    }
+
+    public static void setFloat(PreparedStatement statement, int parameterIndex, Float value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.REAL);
+        } else {
+            statement.setFloat(parameterIndex, value);
+        }
+    }
+
+    public static void setBoolean(PreparedStatement statement, int parameterIndex, Boolean value) throws SQLException {
+        if (value == null) {
+            statement.setNull(parameterIndex, Types.BOOLEAN);
+        } else {
+            statement.setBoolean(parameterIndex, value);
+        }
+    }
+
+    public static void setZonedDateTime(PreparedStatement statement, int parameterIndex, ZonedDateTime value)
+            throws SQLException {
+        statement.setObject(parameterIndex, value == null ? null : value.toOffsetDateTime());
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.exception.EntityMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link PropertyAccessor} backed by getter and setter {@link MethodHandle method handles} of a field or typed static
+ * accessors of a {@link GeneratedEntityMapper generated mapper}.
+ * Handles are resolved once and adapted to erased {@code (Object)Object} and {@code (Object, Object)void} types,
+ * so they are invoked with {@link MethodHandle#invokeExact} without per-call access checks. Handles with the declared
+ * type of the field are kept to compose row mappers and parameter binders without boxing.
+ * <p>
+ * Handles are instance fields invoked through the {@link PropertyAccessor} interface, which is megamorphic on hot
+ * paths, so the JIT cannot treat them as constants and inline the field access. {@link #get} and {@link #set} only
+ * save the reflective access checks of snapshots, dirty checking and id assignment. Rows are read and parameters are
+ * bound through handles composed once per attribute by {@link EntityRowMapper} and {@link EntityAttribute}, which
+ * avoid boxing and interface dispatch per value. Only the static accessors of generated mappers are constants for
+ * the JIT.
+ */
+class MethodHandlePropertyAccessor implements PropertyAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+
+    @SuppressWarnings("java:S3011")
+    MethodHandlePropertyAccessor(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.typedGetter = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(field.getType(), Object.class));
+            this.typedSetter = lookup.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, field.getType()));
+            this.getter = typedGetter.asType(GETTER_TYPE);
+            this.setter = typedSetter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new EntityMappingException("Cannot access field %s of %s"
+                    .formatted(field.getName(), field.getDeclaringClass().getName()), e);
+        }
+    }
+
+    /**
+     * @param typedGetter handle of {@code (Entity)type} type reading the attribute
+     * @param typedSetter handle of {@code (Entity, type)void} type writing the attribute
+     */
+    MethodHandlePropertyAccessor(MethodHandle typedGetter, MethodHandle typedSetter) {
+        Class<?> type = typedGetter.type().returnType();
+        this.typedGetter = typedGetter.asType(MethodType.methodType(type, Object.class));
+        this.typedSetter = typedSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        this.getter = this.typedGetter.asType(GETTER_TYPE);
+        this.setter = this.typedSetter.asType(SETTER_TYPE);
+    }
+
+    @Override
+    @SuppressWarnings("java:S1181")
+    public Object get(Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new BibernateException("Failed to get value from field", e);
+        }
+    }
+
+    @Override
+    public MethodHandle getGetterHandle() {
+        return typedGetter;
+    }
+
+    @Override
+    public MethodHandle getSetterHandle() {
+        return typedSetter;
+    }
+
+    @Override
+    @SuppressWarnings("java:S1181")
+    public void set(Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (Throwable e) {
+            throw new BibernateException("Failed to set value to field", e);
+        }
+    }
+}
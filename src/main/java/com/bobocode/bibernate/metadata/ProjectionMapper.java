@@ -0,0 +1,108 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.EntityMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.bobocode.bibernate.configuration.Dialect.COMMA_SEPARATOR;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_COLUMNS_TEMPLATE;
+
+/**
+ * Maps rows of a query selecting only the columns of a projection {@link Record record} straight into the record
+ * through its canonical constructor.
+ * <p>
+ * Record components are matched with entity attributes by name, or by column name when the component is annotated
+ * with {@link com.bobocode.bibernate.annotation.Column Column}. Typed reads of the selected columns by index are composed
+ * with the canonical constructor into a single {@link MethodHandle} of {@code (ResultSet)Object} type, the same way
+ * {@link EntityRowMapper} populates entities.
+ * @param <R> type of projection record
+ */
+public class ProjectionMapper<R> implements RowMapper<R> {
+
+    private final Class<R> type;
+    private final List<EntityAttribute> attributes;
+    private final String selectQuery;
+    private final MethodHandle mapper;
+
+    private ProjectionMapper(Class<R> type, List<EntityAttribute> attributes, String selectQuery,
+            MethodHandle mapper) {
+        this.type = type;
+        this.attributes = attributes;
+        this.selectQuery = selectQuery;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @throws EntityMappingException if provided type is not a public record or its components do not match
+     *                                entity attributes
+     */
+    static <R> ProjectionMapper<R> create(EntityMetadata<?> metadata, Class<R> type) {
+        if (!type.isRecord()) {
+            throw new EntityMappingException("Projection %s must be a record".formatted(type.getName()));
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        List<EntityAttribute> attributes = new ArrayList<>(components.length);
+        for (RecordComponent component : components) {
+            attributes.add(findAttribute(metadata, type, component));
+        }
+        MethodHandle[] readers = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            readers[i] = MethodHandles.insertArguments(
+                    EntityRowMapper.createReader(attributes.get(i), components[i].getType()), 1, i + 1);
+        }
+        MethodHandle mapper = RecordRowMapper.composeConstructor(type, components, readers);
+        String columns = String.join(COMMA_SEPARATOR, attributes.stream()
+                .map(EntityAttribute::getColumnName)
+                .toList());
+        return new ProjectionMapper<>(type, List.copyOf(attributes),
+                SELECT_COLUMNS_TEMPLATE.formatted(columns, metadata.getTableName()), mapper);
+    }
+
+    private static EntityAttribute findAttribute(EntityMetadata<?> metadata, Class<?> type, RecordComponent component) {
+        String columnName = RecordRowMapper.getColumnName(type, component);
+        return metadata.getAttributes().stream()
+                .filter(attribute -> columnName != null
+                        ? attribute.getColumnName().equalsIgnoreCase(columnName)
+                        : attribute.getName().equals(component.getName()))
+                .findFirst()
+                .orElseThrow(() -> new EntityMappingException(
+                        "Component '%s' of projection %s does not match any attribute of entity %s"
+                                .formatted(component.getName(), type.getName(), metadata.getType().getName())));
+    }
+
+    public Class<R> getType() {
+        return type;
+    }
+
+    /**
+     * @return attributes of the selected columns in the order of record components
+     */
+    public List<EntityAttribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * @return query selecting columns of the projection from the entity table, e.g. {@code select id, name from t}
+     */
+    public String getSelectQuery() {
+        return selectQuery;
+    }
+
+    @Override
+    @SuppressWarnings("java:S1181")
+    public R mapRow(ResultSet resultSet) throws SQLException {
+        try {
+            return type.cast((Object) mapper.invokeExact(resultSet));
+        } catch (SQLException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Projection mapping error", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bobocode.bibernate.metadata;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Reads and writes value of a single entity attribute.
+ * Implementations resolve everything they need once, so a call does not perform any lookups or access checks.
+ */
+public interface PropertyAccessor {
+
+    /**
+     * Reads value of the attribute from provided entity
+     */
+    Object get(Object entity);
+
+    /**
+     * Writes value of the attribute to provided entity
+     */
+    void set(Object entity, Object value);
+
+    /**
+     * @return handle of {@code (Object)type} type, where {@code type} is the declared type of the attribute, that reads
+     * value of the attribute from provided entity. Used to compose parameter binders
+     */
+    MethodHandle getGetterHandle();
+
+    /**
+     * @return handle of {@code (Object, type)void} type, where {@code type} is the declared type of the attribute,
+     * that writes value of the attribute to provided entity. Used to compose {@link EntityRowMapper row mappers}
+     */
+    MethodHandle getSetterHandle();
+}
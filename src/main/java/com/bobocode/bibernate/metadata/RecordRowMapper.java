@@ -0,0 +1,112 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.exception.EntityMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps current row of a {@link ResultSet} with a particular column layout to a {@link Record record} that is not
+ * bound to an entity, e.g. a row of a native query.
+ * <p>
+ * Record components are matched with column labels by name, or by column name when the component is annotated with
+ * {@link Column}. Columns are read by index with {@link TypeHandler type handlers} of the component types and passed to
+ * the canonical constructor, composed into a single {@link MethodHandle} like in {@link ProjectionMapper}.
+ * @param <R> type of record
+ */
+public final class RecordRowMapper<R> implements RowMapper<R> {
+
+    private final Class<R> type;
+    private final MethodHandle mapper;
+
+    private RecordRowMapper(Class<R> type, MethodHandle mapper) {
+        this.type = type;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Creates mapper for the column layout of provided result set
+     * @throws EntityMappingException if provided type is not a public record or result set has no column of some of
+     *                                its components
+     * @throws SQLException           if result set metadata cannot be read
+     */
+    public static <R> RecordRowMapper<R> create(Class<R> type, ResultSet resultSet) throws SQLException {
+        if (!type.isRecord()) {
+            throw new EntityMappingException("Type %s must be a record".formatted(type.getName()));
+        }
+        List<String> columnLabels = EntityRowMapper.getColumnLabels(resultSet);
+        RecordComponent[] components = type.getRecordComponents();
+        MethodHandle[] readers = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            String columnName = getColumnName(type, components[i]);
+            String label = EntityRowMapper.toColumnLabel(columnName != null ? columnName : components[i].getName());
+            int columnIndex = columnLabels.indexOf(label) + 1;
+            if (columnIndex == 0) {
+                throw new EntityMappingException("Column '%s' of record %s is not found in result set"
+                        .formatted(label, type.getName()));
+            }
+            readers[i] = MethodHandles.insertArguments(TypeHandler.forType(components[i].getType()).getReader(), 1,
+                    columnIndex);
+        }
+        return new RecordRowMapper<>(type, composeConstructor(type, components, readers));
+    }
+
+    /**
+     * Composes canonical constructor of provided record with readers of its components
+     * @param readers handles of {@code (ResultSet)componentType} type in the order of components
+     * @return handle of {@code (ResultSet)Object} type that creates record from the current row
+     * @throws EntityMappingException if record is not public
+     */
+    static MethodHandle composeConstructor(Class<?> type, RecordComponent[] components, MethodHandle[] readers) {
+        Class<?>[] parameterTypes = Arrays.stream(components)
+                .map(RecordComponent::getType)
+                .toArray(Class<?>[]::new);
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                    .asType(MethodType.methodType(Object.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new EntityMappingException("Record %s must be public".formatted(type.getName()), e);
+        }
+        for (int i = 0; i < readers.length; i++) {
+            constructor = MethodHandles.filterArguments(constructor, i, readers[i]);
+        }
+        // (ResultSet, ..., ResultSet)Object -> (ResultSet)Object
+        return MethodHandles.permuteArguments(constructor, MethodType.methodType(Object.class, ResultSet.class),
+                new int[components.length]);
+    }
+
+    /**
+     * @return value of {@link Column} annotation of provided component, {@code null} if component is not annotated
+     */
+    static String getColumnName(Class<?> type, RecordComponent component) {
+        try {
+            Field field = type.getDeclaredField(component.getName());
+            Column column = field.getAnnotation(Column.class);
+            return column != null ? column.value() : null;
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("java:S1181")
+    public R mapRow(ResultSet resultSet) throws SQLException {
+        try {
+            return type.cast((Object) mapper.invokeExact(resultSet));
+        } catch (SQLException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Record mapping error", e);
+        }
+    }
+}
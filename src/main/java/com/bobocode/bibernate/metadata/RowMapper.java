@@ -0,0 +1,18 @@
+package com.bobocode.bibernate.metadata;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps current row of a {@link ResultSet} to an object
+ * @param <T> type of the mapped object
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Creates object from the current row of provided result set
+     * @throws SQLException if column value cannot be read
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+}
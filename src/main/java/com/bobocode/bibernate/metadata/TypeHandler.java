@@ -0,0 +1,182 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.EntityMappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads values of a Java type from a {@link ResultSet} and binds them to a {@link PreparedStatement} with typed JDBC
+ * methods. Handlers are chosen per {@link EntityAttribute attribute} when metadata is built.
+ * <p>
+ * Primitive types are read and bound with {@code getLong/setLong}-like methods without boxing, wrapper types use the same
+ * methods with {@link ResultSet#wasNull()} and {@link PreparedStatement#setNull(int, int)} handling. {@code java.time}
+ * types are read with {@link ResultSet#getObject(int, Class)}, other types fall back to
+ * {@link ResultSet#getObject(int)} and {@link PreparedStatement#setObject(int, Object)}. Null-aware reads and writes
+ * are shared with generated mappers through {@link JdbcValues}.
+ */
+public final class TypeHandler {
+
+    private static final Map<Class<?>, TypeHandler> HANDLERS = new HashMap<>();
+    private static final ClassValue<TypeHandler> OBJECT_HANDLERS = new ClassValue<>() {
+        @Override
+        protected TypeHandler computeValue(Class<?> type) {
+            MethodHandle reader = findVirtual(ResultSet.class, "getObject", Object.class, int.class)
+                    .asType(MethodType.methodType(type, ResultSet.class, int.class));
+            MethodHandle binder = findVirtual(PreparedStatement.class, "setObject", void.class, int.class,
+                    Object.class).asType(MethodType.methodType(void.class, PreparedStatement.class, int.class, type));
+            return new TypeHandler(type, reader, binder);
+        }
+    };
+    private static final MethodType ERASED_READER_TYPE =
+            MethodType.methodType(Object.class, ResultSet.class, int.class);
+    private static final MethodType ERASED_BINDER_TYPE =
+            MethodType.methodType(void.class, PreparedStatement.class, int.class, Object.class);
+
+    static {
+        registerPrimitive(long.class, "Long");
+        registerPrimitive(int.class, "Int");
+        registerPrimitive(short.class, "Short");
+        registerPrimitive(double.class, "Double");
+        registerPrimitive(float.class, "Float");
+        registerPrimitive(boolean.class, "Boolean");
+        registerWrapper(Long.class, "Long");
+        registerWrapper(Integer.class, "Integer");
+        registerWrapper(Short.class, "Short");
+        registerWrapper(Double.class, "Double");
+        registerWrapper(Float.class, "Float");
+        registerWrapper(Boolean.class, "Boolean");
+        register(String.class, findVirtual(ResultSet.class, "getString", String.class, int.class),
+                findVirtual(PreparedStatement.class, "setString", void.class, int.class, String.class));
+        register(BigDecimal.class, findVirtual(ResultSet.class, "getBigDecimal", BigDecimal.class, int.class),
+                findVirtual(PreparedStatement.class, "setBigDecimal", void.class, int.class, BigDecimal.class));
+        registerTemporal(LocalDate.class);
+        registerTemporal(LocalTime.class);
+        registerTemporal(LocalDateTime.class);
+        registerTemporal(OffsetDateTime.class);
+        register(ZonedDateTime.class, findStatic("getZonedDateTime", ZonedDateTime.class, ResultSet.class, int.class),
+                findStatic("setZonedDateTime", void.class, PreparedStatement.class, int.class, ZonedDateTime.class));
+    }
+
+    private final Class<?> type;
+    private final MethodHandle reader;
+    private final MethodHandle binder;
+    private final MethodHandle erasedReader;
+    private final MethodHandle erasedBinder;
+
+    private TypeHandler(Class<?> type, MethodHandle reader, MethodHandle binder) {
+        this.type = type;
+        this.reader = reader;
+        this.binder = binder;
+        this.erasedReader = reader.asType(ERASED_READER_TYPE);
+        this.erasedBinder = binder.asType(ERASED_BINDER_TYPE);
+    }
+
+    /**
+     * Returns handler of provided type. Types without typed JDBC methods get a handler that reads and binds values
+     * as objects, it is created once per type.
+     */
+    public static TypeHandler forType(Class<?> type) {
+        TypeHandler handler = HANDLERS.get(type);
+        return handler != null ? handler : OBJECT_HANDLERS.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return handle of {@code (ResultSet, int)type} type that reads column value by its index
+     */
+    public MethodHandle getReader() {
+        return reader;
+    }
+
+    /**
+     * @return handle of {@code (PreparedStatement, int, type)void} type that binds parameter value by its index
+     */
+    public MethodHandle getBinder() {
+        return binder;
+    }
+
+    /**
+     * Reads value of column with provided index boxing it if necessary
+     */
+    @SuppressWarnings("java:S1181")
+    public Object read(ResultSet resultSet, int columnIndex) throws SQLException {
+        try {
+            return (Object) erasedReader.invokeExact(resultSet, columnIndex);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Failed to read column " + columnIndex, e);
+        }
+    }
+
+    /**
+     * Binds provided value to parameter with provided index
+     */
+    @SuppressWarnings("java:S1181")
+    public void bind(PreparedStatement statement, int parameterIndex, Object value) throws SQLException {
+        try {
+            erasedBinder.invokeExact(statement, parameterIndex, value);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new EntityMappingException("Failed to bind parameter " + parameterIndex, e);
+        }
+    }
+
+    private static void register(Class<?> type, MethodHandle reader, MethodHandle binder) {
+        HANDLERS.put(type, new TypeHandler(type, reader, binder));
+    }
+
+    private static void registerPrimitive(Class<?> type, String jdbcName) {
+        register(type, findVirtual(ResultSet.class, "get" + jdbcName, type, int.class),
+                findVirtual(PreparedStatement.class, "set" + jdbcName, void.class, int.class, type));
+    }
+
+    private static void registerWrapper(Class<?> type, String name) {
+        register(type, findStatic("get" + name, type, ResultSet.class, int.class),
+                findStatic("set" + name, void.class, PreparedStatement.class, int.class, type));
+    }
+
+    private static void registerTemporal(Class<?> type) {
+        MethodHandle getObject = findVirtual(ResultSet.class, "getObject", Object.class, int.class, Class.class);
+        register(type, MethodHandles.insertArguments(getObject, 2, type)
+                        .asType(MethodType.methodType(type, ResultSet.class, int.class)),
+                findVirtual(PreparedStatement.class, "setObject", void.class, int.class, Object.class)
+                        .asType(MethodType.methodType(void.class, PreparedStatement.class, int.class, type)));
+    }
+
+    private static MethodHandle findVirtual(Class<?> owner, String name, Class<?> returnType,
+            Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findStatic(String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(JdbcValues.class, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bobocode.bibernate.query;
+
+import java.util.Locale;
+
+/**
+ * Aggregate function computed over an entity attribute by
+ * {@link com.bobocode.bibernate.session.Session#aggregate(Criteria, Aggregate, String, Class)}
+ */
+public enum Aggregate {
+    COUNT,
+    MIN,
+    MAX,
+    SUM,
+    AVG;
+
+    String getFunctionName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.ParameterBinder;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.ProjectionMapper;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL of a {@link QueryShape query shape} together with the plan of binding its parameters: attribute of every
+ * updated value and condition placeholder, followed by limit and offset. Instances are immutable and shared between sessions.
+ */
+public final class CompiledQuery {
+
+    private final String sql;
+    private final EntityMetadata<?> metadata;
+    private final ProjectionMapper<?> projectionMapper;
+    private final List<EntityAttribute> parameterAttributes;
+    private final boolean paged;
+
+    /**
+     * @param paged whether query has limit and offset placeholders
+     */
+    CompiledQuery(String sql, EntityMetadata<?> metadata, ProjectionMapper<?> projectionMapper,
+            List<EntityAttribute> parameterAttributes, boolean paged) {
+        this.sql = sql;
+        this.metadata = metadata;
+        this.projectionMapper = projectionMapper;
+        this.parameterAttributes = List.copyOf(parameterAttributes);
+        this.paged = paged;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public EntityMetadata<?> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @return mapper of the projection, {@code null} when entities are selected
+     */
+    public ProjectionMapper<?> getProjectionMapper() {
+        return projectionMapper;
+    }
+
+    /**
+     * Creates binder of parameter values of provided criteria, which must have the shape of this query. Values are
+     * bound with typed JDBC setters of their attributes.
+     */
+    public ParameterBinder getParameterBinder(Criteria<?> criteria) {
+        return getParameterBinder(criteria, List.of());
+    }
+
+    /**
+     * Creates binder of provided values of updated attributes followed by parameter values of provided criteria
+     * @param values values in the order of updated attributes of the statement
+     */
+    public ParameterBinder getParameterBinder(Criteria<?> criteria, Collection<Object> values) {
+        return (statement, startIndex) -> {
+            int index = startIndex;
+            for (Object value : values) {
+                parameterAttributes.get(index - startIndex).bindParameter(statement, index, value);
+                index++;
+            }
+            for (Criteria.Condition condition : criteria.getConditions()) {
+                for (Object value : condition.values()) {
+                    parameterAttributes.get(index - startIndex).bindParameter(statement, index, value);
+                    index++;
+                }
+            }
+            if (paged && criteria.getLimit() != null) {
+                statement.setInt(index++, criteria.getLimit());
+            }
+            if (paged && criteria.getOffset() != 0) {
+                statement.setInt(index, criteria.getOffset());
+            }
+        };
+    }
+}
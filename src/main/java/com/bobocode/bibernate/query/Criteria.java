@@ -0,0 +1,177 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.Validator;
+import com.bobocode.bibernate.exception.BibernateException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.bobocode.bibernate.configuration.Dialect.COMMA_SEPARATOR;
+import static com.bobocode.bibernate.configuration.Dialect.PLACEHOLDER;
+
+/**
+ * Query of entities of a particular type. Conditions refer to entity attributes by their field names and are combined
+ * with {@code AND}, e.g.
+ * <pre>{@code
+ * Criteria.of(Product.class)
+ *         .gt("price", 1.0)
+ *         .in("name", List.of("knife", "fork"))
+ *         .orderByDesc("price")
+ *         .limit(10);
+ * }</pre>
+ * SQL of a criteria is rendered once per {@link QueryShape shape} and cached by {@link QueryPlanCache}, so running
+ * the same query with new values only binds parameters. {@code IN} lists are padded to the next power of two by
+ * repeating the last value, so lists of different sizes share a few shapes. Order, limit and offset are ignored when
+ * rows are counted, aggregated, checked for existence, updated or deleted.
+ * @param <T> type of entity
+ */
+public final class Criteria<T> {
+
+    private final Class<T> type;
+    private final List<Condition> conditions = new ArrayList<>();
+    private final List<QueryShape.Order> orders = new ArrayList<>();
+    private Integer limit;
+    private int offset;
+
+    private Criteria(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Creates criteria selecting all entities of provided type
+     */
+    public static <T> Criteria<T> of(Class<T> type) {
+        return new Criteria<>(Objects.requireNonNull(type, "[type] argument must be not null"));
+    }
+
+    public Criteria<T> eq(String attribute, Object value) {
+        return add(attribute, Operator.EQ, value);
+    }
+
+    public Criteria<T> ne(String attribute, Object value) {
+        return add(attribute, Operator.NE, value);
+    }
+
+    public Criteria<T> lt(String attribute, Object value) {
+        return add(attribute, Operator.LT, value);
+    }
+
+    public Criteria<T> le(String attribute, Object value) {
+        return add(attribute, Operator.LE, value);
+    }
+
+    public Criteria<T> gt(String attribute, Object value) {
+        return add(attribute, Operator.GT, value);
+    }
+
+    public Criteria<T> ge(String attribute, Object value) {
+        return add(attribute, Operator.GE, value);
+    }
+
+    /**
+     * @throws IllegalArgumentException if values are empty or contain null
+     */
+    public Criteria<T> in(String attribute, Collection<?> values) {
+        Objects.requireNonNull(values, "[values] argument must be not null");
+        if (values.isEmpty() || values.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("[values] argument must be not empty and must not contain null");
+        }
+        List<Object> paddedValues = new ArrayList<>(values);
+        int paddedSize = Integer.highestOneBit(values.size() * 2 - 1);
+        paddedValues.addAll(Collections.nCopies(paddedSize - values.size(), paddedValues.get(values.size() - 1)));
+        conditions.add(new Condition(Objects.requireNonNull(attribute), Operator.IN, paddedValues));
+        return this;
+    }
+
+    public Criteria<T> isNull(String attribute) {
+        conditions.add(new Condition(Objects.requireNonNull(attribute), Operator.IS_NULL, List.of()));
+        return this;
+    }
+
+    public Criteria<T> isNotNull(String attribute) {
+        conditions.add(new Condition(Objects.requireNonNull(attribute), Operator.IS_NOT_NULL, List.of()));
+        return this;
+    }
+
+    public Criteria<T> orderBy(String attribute) {
+        orders.add(new QueryShape.Order(Objects.requireNonNull(attribute), false));
+        return this;
+    }
+
+    public Criteria<T> orderByDesc(String attribute) {
+        orders.add(new QueryShape.Order(Objects.requireNonNull(attribute), true));
+        return this;
+    }
+
+    /**
+     * @throws IllegalArgumentException if limit is negative number
+     */
+    public Criteria<T> limit(int limit) {
+        Validator.checkNotNegativeNumber(limit, "[limit] argument cannot be negative number");
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Skips provided number of rows, requires {@link #limit(int) limit}
+     * @throws IllegalArgumentException if offset is negative number
+     */
+    public Criteria<T> offset(int offset) {
+        Validator.checkNotNegativeNumber(offset, "[offset] argument cannot be negative number");
+        this.offset = offset;
+        return this;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @param statement kind of statement, order, limit and offset are omitted unless the statement is paged
+     * @throws BibernateException if offset is set without limit
+     */
+    QueryShape getShape(QueryShape.Statement statement) {
+        List<QueryShape.ConditionShape> conditionShapes = conditions.stream()
+                .map(condition -> new QueryShape.ConditionShape(condition.attribute(), condition.operator(),
+                        condition.values().size()))
+                .toList();
+        if (!statement.isPaged()) {
+            return new QueryShape(type, statement, conditionShapes, List.of(), false, false);
+        }
+        if (offset != 0 && limit == null) {
+            throw new BibernateException("Offset of criteria requires limit");
+        }
+        return new QueryShape(type, statement, conditionShapes, List.copyOf(orders), limit != null, offset != 0);
+    }
+
+    List<Condition> getConditions() {
+        return conditions;
+    }
+
+    Integer getLimit() {
+        return limit;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    static String placeholders(int count) {
+        return String.join(COMMA_SEPARATOR, Collections.nCopies(count, PLACEHOLDER));
+    }
+
+    private Criteria<T> add(String attribute, Operator operator, Object value) {
+        Objects.requireNonNull(value, "[value] argument must be not null, use isNull instead");
+        conditions.add(new Condition(Objects.requireNonNull(attribute), operator, List.of(value)));
+        return this;
+    }
+
+    /**
+     * @param values bound values of the condition
+     */
+    record Condition(String attribute, Operator operator, List<Object> values) {
+    }
+}
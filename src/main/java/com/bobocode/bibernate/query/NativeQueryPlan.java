@@ -0,0 +1,198 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.ParameterBinder;
+import com.bobocode.bibernate.Util;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.RecordRowMapper;
+import com.bobocode.bibernate.metadata.RowMapper;
+import com.bobocode.bibernate.metadata.TypeHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Parsed native SQL query together with the mapping of its result set to a result type. Plans are cached per SQL and
+ * result type by {@link QueryPlanCache} and shared between sessions.
+ * <p>
+ * Query may use either positional {@code ?} or named {@code :name} parameters. Named parameters are replaced with
+ * placeholders once, when the plan is created. Parameters are not recognized inside string literals, quoted
+ * identifiers and comments, and {@code ::} casts are left as is.
+ * <p>
+ * Results are mapped to entities, to {@link Record records} by column labels, or to a single column value for other
+ * types. The row mapper is resolved from the column layout of the first result set and reused afterwards, so
+ * subsequent executions read neither result set metadata nor column labels.
+ */
+public final class NativeQueryPlan {
+
+    private final String sql;
+    private final Class<?> resultType;
+    private final EntityMetadata<?> metadata;
+    /**
+     * Name of the parameter of every placeholder, empty for positional parameters
+     */
+    private final List<String> parameterNames;
+    private final int parameterCount;
+    private volatile RowMapper<?> rowMapper;
+
+    private NativeQueryPlan(String sql, Class<?> resultType, EntityMetadata<?> metadata, List<String> parameterNames,
+            int parameterCount) {
+        this.sql = sql;
+        this.resultType = resultType;
+        this.metadata = metadata;
+        this.parameterNames = parameterNames;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * @param metadata metadata of the result type, {@code null} if it is not an entity
+     * @throws IllegalArgumentException if query mixes positional and named parameters
+     */
+    static NativeQueryPlan create(String sql, Class<?> resultType, EntityMetadata<?> metadata) {
+        StringBuilder jdbcSql = new StringBuilder(sql.length());
+        List<String> parameterNames = new ArrayList<>();
+        int positionalCount = 0;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                int end = sql.indexOf(c, i + 1);
+                end = end < 0 ? sql.length() : end + 1;
+                jdbcSql.append(sql, i, end);
+                i = end;
+            } else if (sql.startsWith("--", i) || sql.startsWith("/*", i)) {
+                int end = sql.indexOf(c == '-' ? "\n" : "*/", i + 2);
+                end = end < 0 ? sql.length() : end + (c == '-' ? 1 : 2);
+                jdbcSql.append(sql, i, end);
+                i = end;
+            } else if (c == ':' && i + 1 < sql.length() && sql.charAt(i + 1) == ':') {
+                jdbcSql.append("::");
+                i += 2;
+            } else if (c == ':' && i + 1 < sql.length() && Character.isJavaIdentifierStart(sql.charAt(i + 1))) {
+                int end = i + 2;
+                while (end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+                    end++;
+                }
+                parameterNames.add(sql.substring(i + 1, end));
+                jdbcSql.append('?');
+                i = end;
+            } else {
+                positionalCount += c == '?' ? 1 : 0;
+                jdbcSql.append(c);
+                i++;
+            }
+        }
+        if (positionalCount > 0 && !parameterNames.isEmpty()) {
+            throw new IllegalArgumentException("Native query must not mix positional and named parameters: " + sql);
+        }
+        return parameterNames.isEmpty()
+                ? new NativeQueryPlan(sql, resultType, metadata, List.of(), positionalCount)
+                : new NativeQueryPlan(jdbcSql.toString(), resultType, metadata, List.copyOf(parameterNames),
+                parameterNames.size());
+    }
+
+    /**
+     * @return SQL with placeholders in place of named parameters
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public Class<?> getResultType() {
+        return resultType;
+    }
+
+    /**
+     * @return metadata of the result type, {@code null} if result type is not an entity
+     */
+    public EntityMetadata<?> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @return number of positional parameters, zero if query uses named parameters
+     */
+    public int getPositionalParameterCount() {
+        return parameterNames.isEmpty() ? parameterCount : 0;
+    }
+
+    /**
+     * @return distinct names of named parameters
+     */
+    public Set<String> getParameterNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(parameterNames));
+    }
+
+    /**
+     * Creates binder of provided parameter values. Positional values are keyed by their 1-based position. Values are
+     * bound with typed JDBC setters of their {@link TypeHandler}, {@code null} values with
+     * {@link java.sql.PreparedStatement#setObject(int, Object)}.
+     * @throws BibernateException if value of some parameter is not set
+     */
+    public ParameterBinder getParameterBinder(Map<Integer, Object> positionalValues, Map<String, Object> namedValues) {
+        if (parameterNames.isEmpty()) {
+            for (int position = 1; position <= parameterCount; position++) {
+                if (!positionalValues.containsKey(position)) {
+                    throw new BibernateException("Parameter %d of native query is not set".formatted(position));
+                }
+            }
+            return (statement, startIndex) -> {
+                for (int position = 1; position <= parameterCount; position++) {
+                    bindValue(statement, startIndex + position - 1, positionalValues.get(position));
+                }
+            };
+        }
+        for (String name : parameterNames) {
+            if (!namedValues.containsKey(name)) {
+                throw new BibernateException("Parameter '%s' of native query is not set".formatted(name));
+            }
+        }
+        return (statement, startIndex) -> {
+            for (int i = 0; i < parameterNames.size(); i++) {
+                bindValue(statement, startIndex + i, namedValues.get(parameterNames.get(i)));
+            }
+        };
+    }
+
+    private static void bindValue(PreparedStatement statement, int parameterIndex, Object value) throws SQLException {
+        if (value == null) {
+            statement.setObject(parameterIndex, null);
+        } else {
+            TypeHandler.forType(value.getClass()).bind(statement, parameterIndex, value);
+        }
+    }
+
+    /**
+     * Returns row mapper of the result type, resolving it from the column layout of provided result set on the first
+     * call
+     * @throws com.bobocode.bibernate.exception.EntityMappingException if result set has no column for the result type
+     * @throws SQLException                                            if result set metadata cannot be read
+     */
+    public RowMapper<?> getRowMapper(ResultSet resultSet) throws SQLException {
+        RowMapper<?> mapper = rowMapper;
+        if (mapper == null) {
+            mapper = createRowMapper(resultSet);
+            rowMapper = mapper;
+        }
+        return mapper;
+    }
+
+    private RowMapper<?> createRowMapper(ResultSet resultSet) throws SQLException {
+        if (metadata != null) {
+            return metadata.getRowMapper(resultSet);
+        }
+        if (resultType.isRecord()) {
+            return RecordRowMapper.create(resultType, resultSet);
+        }
+        TypeHandler typeHandler = TypeHandler.forType(resultType);
+        Class<?> boxedType = Util.boxed(resultType);
+        return rs -> boxedType.cast(typeHandler.read(rs, 1));
+    }
+}
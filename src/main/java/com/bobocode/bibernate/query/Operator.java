@@ -0,0 +1,32 @@
+package com.bobocode.bibernate.query;
+
+/**
+ * Comparison operator of a {@link Criteria} condition
+ */
+enum Operator {
+    EQ("%s = ?"),
+    NE("%s <> ?"),
+    LT("%s < ?"),
+    LE("%s <= ?"),
+    GT("%s > ?"),
+    GE("%s >= ?"),
+    IN("%s in (%s)"),
+    IS_NULL("%s is null"),
+    IS_NOT_NULL("%s is not null");
+
+    private final String template;
+
+    Operator(String template) {
+        this.template = template;
+    }
+
+    /**
+     * Renders condition on provided column with provided number of placeholders
+     */
+    String render(String column, int parameterCount) {
+        if (this == IN) {
+            return template.formatted(column, Criteria.placeholders(parameterCount));
+        }
+        return template.formatted(column);
+    }
+}
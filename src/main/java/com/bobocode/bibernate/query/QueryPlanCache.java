@@ -0,0 +1,213 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.configuration.Dialect;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.metadata.ProjectionMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.bobocode.bibernate.configuration.Dialect.AND_WITH_SPACES;
+import static com.bobocode.bibernate.configuration.Dialect.COMMA_SEPARATOR;
+import static com.bobocode.bibernate.configuration.Dialect.DELETE_ALL_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.NAME_EQUALS_VALUE_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_AGGREGATE_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.SELECT_ONE_TEMPLATE;
+import static com.bobocode.bibernate.configuration.Dialect.UPDATE_ALL_TEMPLATE;
+
+/**
+ * Cache of {@link CompiledQuery compiled queries} keyed by {@link QueryShape query shape}. A single cache is created
+ * per {@link com.bobocode.bibernate.session.SessionFactory session factory} and shared between its sessions, so
+ * a query is rendered once and repeated queries with new values only bind parameters.
+ * <p>
+ * {@link NativeQueryPlan Plans of native queries} are cached the same way per SQL and result type, and upsert
+ * statements of the dialect per entity type.
+ * <p>
+ * The cache holds at most {@value #MAX_CACHED_QUERIES} queries of each kind, other queries are compiled on every call.
+ */
+@Slf4j
+public class QueryPlanCache {
+
+    static final int MAX_CACHED_QUERIES = 1024;
+
+    private final EntityMetadataRegistry metadataRegistry;
+    private final Dialect dialect;
+    private final Map<QueryShape, CompiledQuery> queries = new ConcurrentHashMap<>();
+    private final Map<NativeQueryKey, NativeQueryPlan> nativeQueries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> upsertQueries = new ConcurrentHashMap<>();
+
+    public QueryPlanCache(EntityMetadataRegistry metadataRegistry, Dialect dialect) {
+        this.metadataRegistry = metadataRegistry;
+        this.dialect = dialect;
+    }
+
+    /**
+     * Returns compiled query of the shape of provided criteria
+     * @param projectionType record class of the projection, {@code null} when entities are selected
+     * @throws com.bobocode.bibernate.exception.EntityMappingException if criteria refers to unknown attribute or
+     *                                                                 projection is not valid
+     */
+    public CompiledQuery getCompiledQuery(Criteria<?> criteria, Class<?> projectionType) {
+        return getCompiledQuery(criteria, projectionType != null
+                ? QueryShape.Statement.projection(projectionType)
+                : QueryShape.Statement.SELECT);
+    }
+
+    /**
+     * Returns compiled {@code select count(*)} query of entities matching provided criteria
+     */
+    public CompiledQuery getCountQuery(Criteria<?> criteria) {
+        return getCompiledQuery(criteria, QueryShape.Statement.aggregate(Aggregate.COUNT, null));
+    }
+
+    /**
+     * Returns compiled query selecting {@code 1} from the first row matching provided criteria
+     */
+    public CompiledQuery getExistsQuery(Criteria<?> criteria) {
+        return getCompiledQuery(criteria, QueryShape.Statement.EXISTS);
+    }
+
+    /**
+     * Returns compiled query computing aggregate of provided attribute over entities matching provided criteria
+     * @throws com.bobocode.bibernate.exception.EntityMappingException if entity has no provided attribute
+     */
+    public CompiledQuery getAggregateQuery(Criteria<?> criteria, Aggregate aggregate, String attribute) {
+        return getCompiledQuery(criteria, QueryShape.Statement.aggregate(aggregate, attribute));
+    }
+
+    /**
+     * Returns compiled statement updating provided attributes of entities matching provided criteria
+     * @param attributes names of updated attributes in the order of bound values
+     * @throws com.bobocode.bibernate.exception.EntityMappingException if entity has no provided attribute
+     * @throws IllegalArgumentException                                if attributes are empty or contain id attribute
+     */
+    public CompiledQuery getUpdateQuery(Criteria<?> criteria, List<String> attributes) {
+        return getCompiledQuery(criteria, QueryShape.Statement.update(attributes));
+    }
+
+    /**
+     * Returns compiled statement deleting entities matching provided criteria
+     */
+    public CompiledQuery getDeleteQuery(Criteria<?> criteria) {
+        return getCompiledQuery(criteria, QueryShape.Statement.DELETE);
+    }
+
+    private CompiledQuery getCompiledQuery(Criteria<?> criteria, QueryShape.Statement statement) {
+        QueryShape shape = criteria.getShape(statement);
+        CompiledQuery compiledQuery = queries.get(shape);
+        if (compiledQuery != null) {
+            return compiledQuery;
+        }
+        compiledQuery = compile(shape, criteria);
+        if (queries.size() < MAX_CACHED_QUERIES) {
+            CompiledQuery cachedQuery = queries.putIfAbsent(shape, compiledQuery);
+            return cachedQuery != null ? cachedQuery : compiledQuery;
+        }
+        return compiledQuery;
+    }
+
+    /**
+     * Returns plan of provided native query mapping its results to provided type
+     * @throws IllegalArgumentException if query mixes positional and named parameters
+     */
+    public NativeQueryPlan getNativeQueryPlan(String sql, Class<?> resultType) {
+        NativeQueryKey key = new NativeQueryKey(sql, resultType);
+        NativeQueryPlan plan = nativeQueries.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = NativeQueryPlan.create(sql, resultType, resultType.isAnnotationPresent(Entity.class)
+                ? metadataRegistry.getMetadata(resultType)
+                : null);
+        if (nativeQueries.size() < MAX_CACHED_QUERIES) {
+            NativeQueryPlan cachedPlan = nativeQueries.putIfAbsent(key, plan);
+            return cachedPlan != null ? cachedPlan : plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Returns statement of the dialect that inserts or updates a row of provided entity, statements are rendered once
+     * per entity type
+     * @throws UnsupportedOperationException if upsert is not supported by the dialect
+     */
+    public String getUpsertQuery(EntityMetadata<?> metadata) {
+        return upsertQueries.computeIfAbsent(metadata.getType(), type -> dialect.getUpsertQuery(
+                metadata.getTableName(), metadata.getAttributes().stream()
+                        .map(EntityAttribute::getColumnName)
+                        .toList(),
+                metadata.getIdAttribute().getColumnName()));
+    }
+
+    private CompiledQuery compile(QueryShape shape, Criteria<?> criteria) {
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(shape.type());
+        QueryShape.Statement statement = shape.statement();
+        ProjectionMapper<?> projectionMapper = statement.kind() == QueryShape.Kind.PROJECTION
+                ? metadata.getProjectionMapper(statement.projectionType())
+                : null;
+        List<EntityAttribute> parameterAttributes = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(switch (statement.kind()) {
+            case SELECT -> metadata.getQueries().selectAll();
+            case PROJECTION -> projectionMapper.getSelectQuery();
+            case EXISTS -> SELECT_ONE_TEMPLATE.formatted(metadata.getTableName());
+            case AGGREGATE -> SELECT_AGGREGATE_TEMPLATE.formatted(statement.aggregate().getFunctionName(),
+                    statement.attributes().isEmpty()
+                            ? "*"
+                            : metadata.getAttribute(statement.attributes().get(0)).getColumnName(),
+                    metadata.getTableName());
+            case UPDATE -> renderUpdate(metadata, statement.attributes(), parameterAttributes);
+            case DELETE -> DELETE_ALL_TEMPLATE.formatted(metadata.getTableName());
+        });
+        List<String> conditions = new ArrayList<>(shape.conditions().size());
+        for (QueryShape.ConditionShape condition : shape.conditions()) {
+            EntityAttribute attribute = metadata.getAttribute(condition.attribute());
+            conditions.add(condition.operator().render(attribute.getColumnName(), condition.parameterCount()));
+            for (int i = 0; i < condition.parameterCount(); i++) {
+                parameterAttributes.add(attribute);
+            }
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" where ").append(String.join(AND_WITH_SPACES, conditions));
+        }
+        if (!shape.orders().isEmpty()) {
+            sql.append(" order by ").append(String.join(COMMA_SEPARATOR, shape.orders().stream()
+                    .map(order -> metadata.getAttribute(order.attribute()).getColumnName()
+                            + (order.descending() ? " desc" : ""))
+                    .toList()));
+        }
+        if (shape.limited()) {
+            sql.append(dialect.getLimitClause(criteria.getLimit(), criteria.getOffset()));
+        }
+        if (statement.kind() == QueryShape.Kind.EXISTS) {
+            sql.append(dialect.getSingleRowClause());
+        }
+        log.trace("Compiled query {}", sql);
+        return new CompiledQuery(sql.toString(), metadata, projectionMapper, parameterAttributes, shape.limited());
+    }
+
+    private static String renderUpdate(EntityMetadata<?> metadata, List<String> attributeNames,
+            List<EntityAttribute> parameterAttributes) {
+        if (attributeNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute must be updated");
+        }
+        List<String> assignments = new ArrayList<>(attributeNames.size());
+        for (String attributeName : attributeNames) {
+            EntityAttribute attribute = metadata.getAttribute(attributeName);
+            if (attribute.isId()) {
+                throw new IllegalArgumentException("Id attribute '%s' cannot be updated".formatted(attributeName));
+            }
+            assignments.add(NAME_EQUALS_VALUE_TEMPLATE.formatted(attribute.getColumnName()));
+            parameterAttributes.add(attribute);
+        }
+        return UPDATE_ALL_TEMPLATE.formatted(metadata.getTableName(), String.join(COMMA_SEPARATOR, assignments));
+    }
+
+    private record NativeQueryKey(String sql, Class<?> resultType) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.bobocode.bibernate.query;
+
+import java.util.List;
+
+/**
+ * Everything that determines SQL of a {@link Criteria} query or statement, but not its parameter values. Queries of
+ * the same shape share a single {@link CompiledQuery}.
+ * @param type           entity class
+ * @param statement      kind of statement and what it selects or updates
+ * @param conditions     conditions in the order they were added
+ * @param orders         sort attributes
+ * @param limited        whether the query has a limit
+ * @param offset         whether the query has a non-zero offset
+ */
+record QueryShape(Class<?> type, Statement statement, List<ConditionShape> conditions, List<Order> orders,
+                  boolean limited, boolean offset) {
+
+    /**
+     * Kind of statement and what it selects or updates
+     * @param kind           kind of statement
+     * @param projectionType record class of a projection, {@code null} for other kinds
+     * @param aggregate      aggregate function, {@code null} for other kinds
+     * @param attributes     aggregated attribute, none for {@code count(*)}, or updated attributes in the order of
+     *                       their values
+     */
+    record Statement(Kind kind, Class<?> projectionType, Aggregate aggregate, List<String> attributes) {
+
+        static final Statement SELECT = new Statement(Kind.SELECT, null, null, List.of());
+        static final Statement EXISTS = new Statement(Kind.EXISTS, null, null, List.of());
+        static final Statement DELETE = new Statement(Kind.DELETE, null, null, List.of());
+
+        static Statement projection(Class<?> projectionType) {
+            return new Statement(Kind.PROJECTION, projectionType, null, List.of());
+        }
+
+        static Statement aggregate(Aggregate aggregate, String attribute) {
+            return new Statement(Kind.AGGREGATE, null, aggregate,
+                    attribute != null ? List.of(attribute) : List.of());
+        }
+
+        static Statement update(List<String> attributes) {
+            return new Statement(Kind.UPDATE, null, null, List.copyOf(attributes));
+        }
+
+        /**
+         * Whether order, limit and offset of criteria apply to the statement. They are ignored by statements that
+         * return a single scalar value or modify rows.
+         */
+        boolean isPaged() {
+            return kind == Kind.SELECT || kind == Kind.PROJECTION;
+        }
+    }
+
+    enum Kind {
+        SELECT, PROJECTION, AGGREGATE, EXISTS, UPDATE, DELETE
+    }
+
+    /**
+     * @param parameterCount number of bound values, the size of a padded {@code IN} list
+     */
+    record ConditionShape(String attribute, Operator operator, int parameterCount) {
+    }
+
+    record Order(String attribute, boolean descending) {
+    }
+}
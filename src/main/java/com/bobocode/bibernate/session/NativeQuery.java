@@ -0,0 +1,114 @@
+package com.bobocode.bibernate.session;
+
+import com.bobocode.bibernate.ParameterBinder;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.query.NativeQueryPlan;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hand-written SQL query created by {@link Session#createNativeQuery(String, Class)}. Parameters are set by 1-based
+ * position or by name, depending on the placeholders used in the query. The query can be executed several times
+ * with different parameter values.
+ * @param <T> type of result
+ */
+public class NativeQuery<T> {
+
+    private final NativeQueryPlan plan;
+    private final QueryExecutor<T> executor;
+    private final Map<Integer, Object> positionalParameters = new HashMap<>();
+    private final Map<String, Object> namedParameters = new HashMap<>();
+    private boolean managed;
+
+    /**
+     * @param plan     cached plan of the query
+     * @param executor executes query within the session
+     */
+    NativeQuery(NativeQueryPlan plan, QueryExecutor<T> executor) {
+        this.plan = plan;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets value of a positional {@code ?} parameter
+     * @param position 1-based position of the parameter
+     * @throws IllegalArgumentException if query has no parameter with provided position
+     */
+    public NativeQuery<T> setParameter(int position, Object value) {
+        if (position < 1 || position > plan.getPositionalParameterCount()) {
+            throw new IllegalArgumentException("Native query has no parameter with position " + position);
+        }
+        positionalParameters.put(position, value);
+        return this;
+    }
+
+    /**
+     * Sets value of a named {@code :name} parameter
+     * @throws IllegalArgumentException if query has no parameter with provided name
+     */
+    public NativeQuery<T> setParameter(String name, Object value) {
+        if (!plan.getParameterNames().contains(name)) {
+            throw new IllegalArgumentException("Native query has no parameter '%s'".formatted(name));
+        }
+        namedParameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * Whether entity results are put in the persistence context, {@code false} by default. Entities that are already
+     * contained in the persistence context are returned instead of the loaded ones.
+     * @throws IllegalStateException if result type is not an entity
+     */
+    public NativeQuery<T> setManaged(boolean managed) {
+        if (managed && plan.getMetadata() == null) {
+            throw new IllegalStateException("Only entity results can be managed, but result type is "
+                    + plan.getResultType().getName());
+        }
+        this.managed = managed;
+        return this;
+    }
+
+    /**
+     * Executes the query
+     * @return list of results or empty list
+     * @throws BibernateException if some parameter is not set
+     */
+    public List<T> getResultList() {
+        return executor.execute(this);
+    }
+
+    /**
+     * Executes the query expecting at most one result
+     * @throws BibernateException if some parameter is not set or more than one result is found
+     */
+    public Optional<T> getSingleResult() {
+        List<T> results = getResultList();
+        if (results.size() > 1) {
+            throw new BibernateException("More than 1 result were found!");
+        }
+        return results.stream().findFirst();
+    }
+
+    NativeQueryPlan getPlan() {
+        return plan;
+    }
+
+    boolean isManaged() {
+        return managed;
+    }
+
+    ParameterBinder getParameterBinder() {
+        return plan.getParameterBinder(positionalParameters, namedParameters);
+    }
+
+    /**
+     * Executes native query within the session that created it
+     */
+    @FunctionalInterface
+    interface QueryExecutor<T> {
+        List<T> execute(NativeQuery<T> query);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bobocode.bibernate.session;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over pages of entities with keyset pagination. Every page is seeked after the sort key of the last entity
+ * of the previous page, so loading a deep page costs the same as loading the first one. Pages are loaded lazily,
+ * iteration stops after a page that is shorter than the page size or empty.
+ * @param <T> type of entity
+ * @see Session#paginate(Class, List, int)
+ */
+public class Paginator<T> implements Iterator<List<T>> {
+
+    private final PageLoader<T> pageLoader;
+    private final Function<T, List<Object>> keyExtractor;
+    private final int pageSize;
+    private List<Object> afterKey;
+    private List<Object> returnedKey;
+    private List<T> nextPage;
+    private boolean lastPageLoaded;
+
+    /**
+     * @param pageLoader   loads page of provided size after provided key, {@code null} key for the first page
+     * @param keyExtractor returns values of the sort key of an entity
+     * @param pageSize     maximum number of entities in a page
+     */
+    Paginator(PageLoader<T> pageLoader, Function<T, List<Object>> keyExtractor, int pageSize) {
+        this.pageLoader = pageLoader;
+        this.keyExtractor = keyExtractor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null && !lastPageLoaded) {
+            nextPage = pageLoader.load(afterKey, pageSize);
+            lastPageLoaded = nextPage.size() < pageSize;
+            if (nextPage.isEmpty()) {
+                nextPage = null;
+            } else {
+                afterKey = keyExtractor.apply(nextPage.get(nextPage.size() - 1));
+            }
+        }
+        return nextPage != null;
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more pages");
+        }
+        List<T> page = nextPage;
+        nextPage = null;
+        returnedKey = afterKey;
+        return page;
+    }
+
+    /**
+     * @return sort key of the last entity of returned pages that can be used to resume pagination with
+     * {@link Session#findPage(Class, List, List, int)}, or {@code null} if no page was returned
+     */
+    public List<Object> getAfterKey() {
+        return returnedKey;
+    }
+
+    @FunctionalInterface
+    interface PageLoader<T> {
+        List<T> load(List<Object> afterKey, int limit);
+    }
+}
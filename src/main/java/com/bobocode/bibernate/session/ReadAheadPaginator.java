@@ -0,0 +1,158 @@
+package com.bobocode.bibernate.session;
+
+import com.bobocode.bibernate.EntityPersister;
+import com.bobocode.bibernate.exception.BibernateException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Iterates over pages of a {@link Paginator} that is read ahead by a background daemon thread. The thread uses its own
+ * connection of the data source, so page {@code N + 1} is loaded while page {@code N} is processed by the caller. At
+ * most {@code readAheadDepth} loaded pages wait for the caller, then the thread blocks until a page is taken.
+ * <p>
+ * Closing the paginator cancels the select that is being executed, interrupts the thread and releases its connection.
+ * A failure of the background thread is rethrown to the caller by {@link #hasNext()}. Loaded entities are not put in
+ * the persistence context of the session.
+ * @param <T> type of entity
+ * @see Session#paginate(Class, List, int, int)
+ */
+@Slf4j
+public class ReadAheadPaginator<T> implements Iterator<List<T>>, AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final BlockingQueue<Entry<T>> pages;
+    private final Thread thread;
+    private final Consumer<ReadAheadPaginator<T>> onClose;
+    private volatile EntityPersister entityPersister;
+    private volatile boolean closed;
+    private Entry<T> nextEntry;
+    private List<Object> afterKey;
+
+    /**
+     * @param dataSource       data source of the connection used by the background thread
+     * @param paginatorFactory creates paginator that loads pages with provided persister
+     * @param readAheadDepth   maximum number of loaded pages waiting for the caller
+     * @param onClose          executed once when paginator is closed
+     */
+    ReadAheadPaginator(DataSource dataSource, Function<EntityPersister, Paginator<T>> paginatorFactory,
+            int readAheadDepth, Consumer<ReadAheadPaginator<T>> onClose) {
+        this.pages = new ArrayBlockingQueue<>(readAheadDepth);
+        this.onClose = onClose;
+        this.thread = new Thread(() -> readAhead(dataSource, paginatorFactory),
+                "bibernate-read-ahead-" + THREAD_COUNTER.incrementAndGet());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void readAhead(DataSource dataSource, Function<EntityPersister, Paginator<T>> paginatorFactory) {
+        try (Connection connection = dataSource.getConnection();
+             EntityPersister persister = new EntityPersister(connection, 0)) {
+            entityPersister = persister;
+            Paginator<T> paginator = paginatorFactory.apply(persister);
+            while (!closed && paginator.hasNext()) {
+                List<T> page = paginator.next();
+                pages.put(new Entry<>(page, paginator.getAfterKey(), null));
+            }
+            pages.put(new Entry<>(null, null, null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException | RuntimeException | Error e) {
+            if (!closed) {
+                putFailure(e);
+            }
+        } finally {
+            entityPersister = null;
+        }
+    }
+
+    private void putFailure(Throwable failure) {
+        try {
+            pages.put(new Entry<>(null, null, failure));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the next page if it is not loaded yet
+     * @throws BibernateException if the background thread failed to load the page, or the caller is interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (nextEntry == null) {
+            try {
+                nextEntry = pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BibernateException("Interrupted while waiting for page", e);
+            }
+        }
+        if (nextEntry.failure() != null) {
+            Throwable failure = nextEntry.failure();
+            close();
+            throw failure instanceof BibernateException bibernateException
+                    ? bibernateException
+                    : new BibernateException("Failed to read ahead page", failure);
+        }
+        return nextEntry.page() != null;
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more pages");
+        }
+        List<T> page = nextEntry.page();
+        afterKey = nextEntry.afterKey();
+        nextEntry = null;
+        return page;
+    }
+
+    /**
+     * @return sort key of the last entity of returned pages, see {@link Paginator#getAfterKey()}
+     */
+    public List<Object> getAfterKey() {
+        return afterKey;
+    }
+
+    /**
+     * Cancels loading of pages and releases connection of the background thread
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        log.trace("Closing read-ahead paginator");
+        EntityPersister persister = entityPersister;
+        if (persister != null) {
+            persister.cancel();
+        }
+        thread.interrupt();
+        pages.clear();
+        nextEntry = null;
+        onClose.accept(this);
+    }
+
+    /**
+     * Loaded page, failure of the background thread, or the end of pages when both are {@code null}
+     */
+    private record Entry<T>(List<T> page, List<Object> afterKey, Throwable failure) {
+    }
+}
@@ -2,12 +2,16 @@ package com.bobocode.bibernate.session;
 
 import com.bobocode.bibernate.action.Action;
 import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.query.Aggregate;
+import com.bobocode.bibernate.query.Criteria;
 
 import com.bobocode.bibernate.transaction.Transaction;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Session is used to interact with persistence context. This interface is API for creating and removing persistence entity
@@ -44,6 +48,66 @@ public interface Session extends AutoCloseable {
      */
     <T> List<T> findAll(Class<T> type, int limit, int offset);
 
+    /**
+     * Find page of entities ordered by primary key with keyset pagination: {@code where id > ? order by id limit ?}.
+     * Unlike {@link #findAll(Class, int, int)}, the database seeks the first row of the page by index instead of
+     * skipping {@code offset} rows, so deep pages are loaded as fast as the first one.
+     * @param type    specifies class of entity
+     * @param afterId primary key of the last entity of the previous page, {@code null} for the first page
+     * @param limit   maximum number of returned entities
+     * @param <T>     specifies type of entity
+     * @return page of entities ordered by primary key
+     * @throws IllegalArgumentException if limit is negative number
+     * @throws UnsupportedOperationException if keyset pagination is not supported by the dialect
+     */
+    <T> List<T> findPage(Class<T> type, Object afterId, int limit);
+
+    /**
+     * Find page of entities ordered by provided columns with keyset pagination, e.g.
+     * {@code where (name, id) > (?, ?) order by name, id limit ?}. Primary key column is appended to the sort key if it
+     * is not included, so the order of rows is unique. Sort key columns must be non-null: a row value comparison with
+     * {@code NULL} is unknown, so such rows would be skipped, and databases order {@code NULL} values differently.
+     * @param type        specifies class of entity
+     * @param sortColumns non-null columns to order entities by in ascending order
+     * @param afterKey    values of the sort key, including the appended primary key, of the last entity of the
+     *                    previous page, {@code null} or empty for the first page
+     * @param limit       maximum number of returned entities
+     * @param <T>         specifies type of entity
+     * @return page of entities ordered by sort key
+     * @throws IllegalArgumentException if entity has no provided column, afterKey size does not match the sort key,
+     *                                  afterKey contains {@code null} or limit is negative number
+     * @throws UnsupportedOperationException if keyset pagination is not supported by the dialect
+     * @see #paginate(Class, List, int)
+     */
+    <T> List<T> findPage(Class<T> type, List<String> sortColumns, List<Object> afterKey, int limit);
+
+    /**
+     * Creates {@link Paginator} that lazily loads pages of entities ordered by provided columns with keyset
+     * pagination, see {@link #findPage(Class, List, List, int)}
+     * @param type        specifies class of entity
+     * @param sortColumns non-null columns to order entities by in ascending order, primary key order if empty
+     * @param pageSize    maximum number of entities in a page
+     * @param <T>         specifies type of entity
+     * @return iterator over pages
+     */
+    <T> Paginator<T> paginate(Class<T> type, List<String> sortColumns, int pageSize);
+
+    /**
+     * Creates {@link ReadAheadPaginator} that loads pages of entities ordered by provided columns with keyset
+     * pagination on a background thread and a separate connection, so the next pages are loaded while the current one
+     * is processed. Loaded entities are not put in the persistence context. The paginator must be closed, it is also
+     * closed together with the session.
+     * @param type           specifies class of entity
+     * @param sortColumns    non-null columns to order entities by in ascending order, primary key order if empty
+     * @param pageSize       maximum number of entities in a page
+     * @param readAheadDepth maximum number of pages loaded ahead of the caller
+     * @param <T>            specifies type of entity
+     * @return iterator over pages that cancels loading when closed
+     * @throws IllegalArgumentException if entity has no provided column, page size is negative number or read-ahead
+     *                                  depth is not positive
+     */
+    <T> ReadAheadPaginator<T> paginate(Class<T> type, List<String> sortColumns, int pageSize, int readAheadDepth);
+
     /**
      * Find all entities by provided column values.
      * @param type       specifies class of entity
@@ -56,13 +120,172 @@ public interface Session extends AutoCloseable {
     <T> List<T> findAll(Class<T> type, Map<String, Object> properties);
 
     /**
-     * Save entity in the database
+     * Find all entities matching provided criteria. SQL of the criteria is rendered once per query shape and cached by
+     * the session factory, so repeated queries with new values only bind parameters.
+     * @param criteria conditions, order and limit of the query
+     * @param <T>      specifies type of entity
+     * @return list of entities or empty list
+     * @throws NullPointerException   if criteria is null
+     * @throws EntityMappingException if criteria type is not a valid entity or criteria refers to unknown attribute
+     */
+    <T> List<T> findAll(Criteria<T> criteria);
+
+    /**
+     * Find projections of entities matching provided criteria, see {@link #project(Class, Class, Map)}
+     * @param criteria       conditions, order and limit of the query
+     * @param projectionType record class of the projection
+     * @param <T>            specifies type of entity
+     * @param <R>            specifies type of projection
+     * @return list of projections or empty list
+     * @throws NullPointerException   if criteria or projectionType is null
+     * @throws EntityMappingException if criteria refers to unknown attribute or projection is not valid
+     */
+    <T, R extends Record> List<R> project(Criteria<T> criteria, Class<R> projectionType);
+
+    /**
+     * Counts entities matching provided criteria with {@code select count(*)} query, order, limit and offset of the
+     * criteria are ignored
+     * @param criteria conditions of the query
+     * @return number of matching rows
+     * @throws NullPointerException   if criteria is null
+     * @throws EntityMappingException if criteria type is not a valid entity or criteria refers to unknown attribute
+     */
+    long count(Criteria<?> criteria);
+
+    /**
+     * Checks whether some entity matches provided criteria selecting {@code 1} from the first matching row, order,
+     * limit and offset of the criteria are ignored
+     * @param criteria conditions of the query
+     * @return {@code true} if at least one row matches
+     * @throws NullPointerException   if criteria is null
+     * @throws EntityMappingException if criteria type is not a valid entity or criteria refers to unknown attribute
+     */
+    boolean exists(Criteria<?> criteria);
+
+    /**
+     * Computes aggregate function over provided attribute of entities matching provided criteria, e.g.
+     * {@code aggregate(Criteria.of(Product.class), Aggregate.MAX, "price", Double.class)}. Order, limit and offset of
+     * the criteria are ignored.
+     * @param criteria   conditions of the query
+     * @param aggregate  aggregate function
+     * @param attribute  name of the aggregated attribute
+     * @param resultType type of the aggregate value, e.g. attribute type for {@code min} and {@code max},
+     *                   {@link Long} for {@code count}, {@link Double} or {@link java.math.BigDecimal} for {@code avg}
+     * @param <V>        specifies type of the aggregate value
+     * @return aggregate value or empty optional if it is SQL NULL, e.g. when no rows match
+     * @throws NullPointerException   if any argument is null
+     * @throws EntityMappingException if criteria type is not a valid entity or has no provided attribute
+     */
+    <V> Optional<V> aggregate(Criteria<?> criteria, Aggregate aggregate, String attribute, Class<V> resultType);
+
+    /**
+     * Creates query of hand-written SQL with positional {@code ?} or named {@code :name} parameters. Results are mapped
+     * to entities, to records by column labels, or to the value of the first column for other types. SQL parsing and
+     * result mapping are computed once per SQL and result type and cached by the session factory.
+     * @param sql        SQL query
+     * @param resultType class of entity, record or single column value
+     * @param <T>        specifies type of result
+     * @return query to set parameters of and execute
+     * @throws NullPointerException     if sql or resultType is null
+     * @throws IllegalArgumentException if query mixes positional and named parameters
+     */
+    <T> NativeQuery<T> createNativeQuery(String sql, Class<T> resultType);
+
+    /**
+     * Find projections of entities by provided column values. Only the columns of the projection record are selected,
+     * and rows are mapped straight into records through their canonical constructor. Record components are matched
+     * with entity attributes by name, or by column name if the component is annotated with
+     * {@link com.bobocode.bibernate.annotation.Column}. Projections are not put in the persistence context.
+     * @param type           specifies class of entity
+     * @param projectionType record class of the projection
+     * @param properties     defines map of column name (key) and it's value for filtering, empty map to select all rows
+     * @param <T>            specifies type of entity
+     * @param <R>            specifies type of projection
+     * @return list of projections or empty list
+     * @throws NullPointerException   if type, projectionType or properties is null
+     * @throws EntityMappingException if type is not a valid entity, or projectionType is not a public record with
+     *                                components matching entity attributes
+     */
+    <T, R extends Record> List<R> project(Class<T> type, Class<R> projectionType, Map<String, Object> properties);
+
+    /**
+     * Find entities by a collection of primary keys. Entities contained in the persistence context are returned from there,
+     * the rest are loaded with {@code IN} queries of at most 256 ids each and put in the
+     * persistence context.
+     * @param type specifies class of entity
+     * @param ids  values of primary key
+     * @param <T>  specifies type of entity
+     * @return found entities in the order of provided ids, ids without entity are skipped
+     * @throws NullPointerException     if type, ids or any of ids is null
+     * @throws IllegalArgumentException if type of any id does not correspond field of entity that is annotated with
+     *                                  {@link com.bobocode.bibernate.annotation.Id}
+     * @throws EntityMappingException   if type is not a valid entity
+     */
+    <T> List<T> findAllById(Class<T> type, Collection<?> ids);
+
+    /**
+     * Streams all entities of provided type. Rows are read lazily from an open result set, so the result is never
+     * materialized in memory. The returned stream holds JDBC resources until it is closed or all rows are read, so it
+     * should be used in a try-with-resources statement.
+     * @param type    specifies class of entity
+     * @param options fetch size and whether streamed entities are put in the persistence context
+     * @param <T>     specifies type of entity
+     * @return lazy stream of entities
+     * @throws NullPointerException   if type or options is null
+     * @throws EntityMappingException if type is not a valid entity
+     * @see #stream(Class, Map, StreamOptions)
+     */
+    <T> Stream<T> stream(Class<T> type, StreamOptions options);
+
+    /**
+     * Streams entities by provided column values. Rows are read lazily from an open result set in chunks of
+     * {@link StreamOptions#fetchSize() fetch size}. When the database fetches rows with a cursor only inside a
+     * transaction (e.g. PostgreSQL) and no transaction is active, auto-commit is disabled until the stream is closed.
+     * <p>
+     * {@link StreamOptions#managed() Managed} entities are put in the persistence context, and entities already
+     * contained there are returned instead of the loaded ones. Unmanaged entities are not retained by the session.
+     * @param type       specifies class of entity
+     * @param properties defines map of column name (key) and it's value for filtering
+     * @param options    fetch size and whether streamed entities are put in the persistence context
+     * @param <T>        specifies type of entity
+     * @return lazy stream of entities that must be closed
+     * @throws NullPointerException   if type, properties or options is null
+     * @throws EntityMappingException if type is not a valid entity
+     */
+    <T> Stream<T> stream(Class<T> type, Map<String, Object> properties, StreamOptions options);
+
+    /**
+     * Save entity in the database. When id of the entity is null and its id field is annotated with
+     * {@link com.bobocode.bibernate.annotation.GeneratedValue @GeneratedValue}, a {@code SEQUENCE} or {@code UUID} id
+     * is assigned immediately and an {@code IDENTITY} id is set to the entity when its insert is flushed
      * @param entity the instance to be saved
      * @param <T>    specifies type of the entity
      * @throws IllegalStateException if session is closed {@link EntityMappingException} if entity is invalid
      */
     <T> void save(T entity);
 
+    /**
+     * Inserts provided entity or updates the existing row with the same id in a single statement of the dialect, e.g.
+     * {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL or {@code MERGE INTO ... KEY} on H2, without loading the
+     * row first. The statement is executed on flush, and the entity is put in the persistence context. If an entity with
+     * the same id is already managed, the state of provided entity is copied to it and the managed entity is upserted.
+     * @param entity entity with all attributes including id
+     * @param <T>    specifies type of entity
+     * @throws IllegalArgumentException      if id of the entity is null
+     * @throws UnsupportedOperationException if upsert is not supported by the dialect
+     */
+    <T> void upsert(T entity);
+
+    /**
+     * Upserts provided entities, see {@link #upsert(Object)}. Consecutive upserts of the same entity type are sent in
+     * JDBC batches.
+     * @param entities entities with all attributes including id
+     * @param <T>      specifies type of entities
+     * @throws IllegalArgumentException      if id of some entity is null
+     * @throws UnsupportedOperationException if upsert is not supported by the dialect
+     */
+    <T> void upsertAll(Collection<T> entities);
+
     /**
      * Remove an entity from the database
      * @param entity the instance to be removed
@@ -70,6 +293,32 @@ public interface Session extends AutoCloseable {
      */
     <T> void delete(T entity);
 
+    /**
+     * Updates provided attributes of all entities matching provided criteria with a single statement without loading
+     * them. Queued actions are flushed before the statement, and all managed entities of the criteria type are
+     * evicted from the persistence context after it, so they are reloaded by subsequent queries.
+     * @param criteria conditions of the statement, order, limit and offset are ignored
+     * @param values   map of attribute name (key) and its new value
+     * @param <T>      specifies type of entity
+     * @return number of updated rows
+     * @throws NullPointerException     if criteria or values is null
+     * @throws IllegalArgumentException if values are empty or contain id attribute
+     * @throws EntityMappingException   if criteria type is not a valid entity or has no provided attribute
+     */
+    <T> int updateWhere(Criteria<T> criteria, Map<String, Object> values);
+
+    /**
+     * Deletes all entities matching provided criteria with a single statement without loading them. Queued actions are
+     * flushed before the statement, and all managed entities of the criteria type are evicted from the persistence
+     * context after it.
+     * @param criteria conditions of the statement, order, limit and offset are ignored
+     * @param <T>      specifies type of entity
+     * @return number of deleted rows
+     * @throws NullPointerException   if criteria is null
+     * @throws EntityMappingException if criteria type is not a valid entity or criteria refers to unknown attribute
+     */
+    <T> int deleteWhere(Criteria<T> criteria);
+
     /**
      * Copies the state of the provided object to the . If three is no entity with the same id in the persistence context it will be
      * loaded as well. If provided entity has differences with entity from the context, the second one will be updated by first. If
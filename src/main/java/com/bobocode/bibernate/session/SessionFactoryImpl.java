@@ -4,6 +4,8 @@ import com.bobocode.bibernate.PooledDataSourceProvider;
 import com.bobocode.bibernate.configuration.Dialect;
 import com.bobocode.bibernate.configuration.PersistenceUnitProperties;
 import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.query.QueryPlanCache;
 import com.bobocode.parser.PropertyParser;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -21,12 +23,15 @@ public class SessionFactoryImpl implements SessionFactory {
     private final DataSource dataSource;
     private final Dialect dialect;
     private final PersistenceUnitProperties properties;
+    private final EntityMetadataRegistry metadataRegistry = new EntityMetadataRegistry();
+    private final QueryPlanCache queryPlanCache;
 
     public SessionFactoryImpl(PropertyParser parser, String persistenceUnit) {
         Objects.requireNonNull(parser, "Property parser must not be null");
         this.properties = getPersistenceUnitProperties(parser, persistenceUnit, null);
         this.dataSource = getDataSource();
         this.dialect = properties.getDialect();
+        this.queryPlanCache = new QueryPlanCache(metadataRegistry, dialect);
     }
 
     public SessionFactoryImpl(PropertyParser parser, String persistenceUnit, String propertyFile) {
@@ -35,12 +40,13 @@ public class SessionFactoryImpl implements SessionFactory {
         this.properties = getPersistenceUnitProperties(parser, persistenceUnit, propertyFile);
         this.dataSource = getDataSource();
         this.dialect = properties.getDialect();
+        this.queryPlanCache = new QueryPlanCache(metadataRegistry, dialect);
     }
 
     public Session openSession() {
         try {
             log.info("Creating session...");
-            return new SessionImpl(dataSource, dialect);
+            return new SessionImpl(dataSource, dialect, metadataRegistry, queryPlanCache, properties.getJdbcSettings());
         } catch (SQLException e) {
             throw new BibernateException("Connection problem: %s", e);
         }
@@ -4,31 +4,53 @@ import com.bobocode.bibernate.EntityPersister;
 import com.bobocode.bibernate.PersistenceContext;
 import com.bobocode.bibernate.Util;
 import com.bobocode.bibernate.Validator;
-import com.bobocode.bibernate.action.Action;
+import com.bobocode.bibernate.action.ActionExecutor;
+import com.bobocode.bibernate.action.ActionQueue;
 import com.bobocode.bibernate.action.DeleteAction;
+import com.bobocode.bibernate.action.IdentityInsertAction;
 import com.bobocode.bibernate.action.InsertAction;
 import com.bobocode.bibernate.action.UpdateAction;
+import com.bobocode.bibernate.action.UpsertAction;
+import com.bobocode.bibernate.annotation.GenerationType;
 import com.bobocode.bibernate.configuration.Dialect;
+import com.bobocode.bibernate.configuration.JdbcSettings;
 import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.id.SequenceIdGenerator;
+import com.bobocode.bibernate.id.UuidV7Generator;
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.metadata.ProjectionMapper;
+import com.bobocode.bibernate.metadata.RowMapper;
+import com.bobocode.bibernate.metadata.TypeHandler;
+import com.bobocode.bibernate.query.Aggregate;
+import com.bobocode.bibernate.query.CompiledQuery;
+import com.bobocode.bibernate.query.Criteria;
+import com.bobocode.bibernate.query.NativeQueryPlan;
+import com.bobocode.bibernate.query.QueryPlanCache;
 import com.bobocode.bibernate.transaction.Transaction;
 import com.bobocode.bibernate.transaction.TransactionImpl;
+import com.bobocode.bibernate.transaction.TransactionStatus;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
-import static com.bobocode.bibernate.Util.getTableName;
-import static com.bobocode.bibernate.Util.mergeEntities;
 import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_BY_PROPERTIES_TEMPLATE;
-import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_ID_TEMPLATE;
-import static com.bobocode.bibernate.configuration.Dialect.SELECT_ALL_TEMPLATE;
 import static com.bobocode.bibernate.configuration.Dialect.prepareWhereClause;
 
 @Slf4j
@@ -36,26 +58,63 @@ public class SessionImpl implements Session {
 
     private static final String TYPE_MUST_NOT_BE_NULL_MSG = "[type] argument must be not null";
 
+    /**
+     * Maximum number of ids in a single {@code IN} clause of {@link #findAllById(Class, Collection)}.
+     * Smaller chunks are padded to the next power of two, so at most 9 query shapes are used per entity.
+     */
+    public static final int MAX_IN_LIST_SIZE = 256;
+
     private final Dialect dialect;
 
+    private final EntityMetadataRegistry metadataRegistry;
+
     private final EntityPersister entityPersister;
 
     private final PersistenceContext persistenceContext;
 
-    private final Queue<Action> actionQueue;
+    private final ActionQueue actionQueue;
+
+    private final ActionExecutor actionExecutor;
+
+    private final QueryPlanCache queryPlanCache;
 
     private Transaction transaction;
 
     private final Connection connection;
 
+    private final DataSource dataSource;
+
+    private final Set<ReadAheadPaginator<?>> readAheadPaginators = new LinkedHashSet<>();
+
+    /**
+     * Number of open streams sharing the transaction started implicitly for their cursors
+     */
+    private int cursorTransactionCount;
+
+    /**
+     * Whether auto-commit disabled for cursors is restored when the user transaction that took over the implicit one
+     * is finished
+     */
+    private boolean restoreAutoCommitAfterTransaction;
+
     private boolean isOpen;
 
-    public SessionImpl(DataSource dataSource, Dialect dialect) throws SQLException {
+    public SessionImpl(DataSource dataSource, Dialect dialect, EntityMetadataRegistry metadataRegistry,
+            JdbcSettings jdbcSettings) throws SQLException {
+        this(dataSource, dialect, metadataRegistry, new QueryPlanCache(metadataRegistry, dialect), jdbcSettings);
+    }
+
+    public SessionImpl(DataSource dataSource, Dialect dialect, EntityMetadataRegistry metadataRegistry,
+            QueryPlanCache queryPlanCache, JdbcSettings jdbcSettings) throws SQLException {
         this.connection = dataSource.getConnection();
+        this.dataSource = dataSource;
         this.dialect = dialect;
-        this.entityPersister = new EntityPersister(connection);
-        this.persistenceContext = new PersistenceContext();
-        this.actionQueue = new PriorityQueue<>(Action.comparingPriority());
+        this.metadataRegistry = metadataRegistry;
+        this.entityPersister = new EntityPersister(connection, jdbcSettings.statementCacheSize());
+        this.persistenceContext = new PersistenceContext(metadataRegistry);
+        this.actionQueue = new ActionQueue(jdbcSettings.orderInserts(), jdbcSettings.orderUpdates());
+        this.actionExecutor = new ActionExecutor(entityPersister, dialect, jdbcSettings);
+        this.queryPlanCache = queryPlanCache;
         this.isOpen = true;
     }
 
@@ -70,14 +129,13 @@ public class SessionImpl implements Session {
             return cachedEntity;
         }
 
-        Validator.validateEntity(type);
-        Validator.checkIdValidPrimaryKeyType(type, primaryKey);
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
+        Validator.checkIdValidPrimaryKeyType(metadata, primaryKey);
 
-        String tableName = getTableName(type);
+        String tableName = metadata.getTableName();
         log.trace("Finding {} by id", tableName);
 
-        String query = SELECT_ALL_ID_TEMPLATE.formatted(tableName);
-        List<T> foundEntities = entityPersister.select(type, query, List.of(primaryKey));
+        List<T> foundEntities = entityPersister.select(metadata, metadata.getQueries().selectById(), List.of(primaryKey));
         if (foundEntities.isEmpty()) {
             return Optional.empty();
         }
@@ -90,21 +148,183 @@ public class SessionImpl implements Session {
         return Optional.of(entity);
     }
 
+    @Override
+    public <T> List<T> findAllById(Class<T> type, Collection<?> ids) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(ids, "[ids] argument must be not null");
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
+
+        Map<Object, T> foundEntities = new LinkedHashMap<>();
+        List<Object> idsToLoad = new ArrayList<>();
+        for (Object id : ids) {
+            Objects.requireNonNull(id, "[ids] argument must not contain null");
+            Validator.checkIdValidPrimaryKeyType(metadata, id);
+            if (!foundEntities.containsKey(id)) {
+                Optional<T> cachedEntity = persistenceContext.getEntity(type, id);
+                foundEntities.put(id, cachedEntity.orElse(null));
+                if (cachedEntity.isEmpty()) {
+                    idsToLoad.add(id);
+                }
+            }
+        }
+        log.trace("Finding {} {} by ids, {} found in persistence context", ids.size(), metadata.getTableName(),
+                foundEntities.size() - idsToLoad.size());
+
+        for (int from = 0; from < idsToLoad.size(); from += MAX_IN_LIST_SIZE) {
+            List<Object> chunk = idsToLoad.subList(from, Math.min(from + MAX_IN_LIST_SIZE, idsToLoad.size()));
+            for (T entity : loadByIds(metadata, chunk)) {
+                Object id = metadata.getIdValue(entity);
+                persistenceContext.putEntity(entity, id);
+                persistenceContext.putEntitySnapshot(entity, id);
+                foundEntities.put(id, entity);
+            }
+        }
+        return foundEntities.values().stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private <T> List<T> loadByIds(EntityMetadata<T> metadata, List<Object> ids) {
+        int paddedSize = Integer.highestOneBit(ids.size()) == ids.size()
+                ? ids.size()
+                : Integer.highestOneBit(ids.size()) << 1;
+        List<Object> parameters = new ArrayList<>(paddedSize);
+        parameters.addAll(ids);
+        while (parameters.size() < paddedSize) {
+            parameters.add(ids.get(ids.size() - 1));
+        }
+        return entityPersister.select(metadata, metadata.getSelectByIdsQuery(paddedSize), parameters);
+    }
+
     @Override
     public <T> List<T> findAll(Class<T> type, int limit, int offset) {
         checkIsOpen();
         Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
         Validator.checkNotNegativeNumber(limit, "[limit] argument cannot be negative number");
         Validator.checkNotNegativeNumber(offset, "[offset] argument cannot be negative number");
-        Validator.validateEntity(type);
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
 
-        String tableName = getTableName(type);
+        String tableName = metadata.getTableName();
         log.trace("Finding all {}", tableName);
 
-        String query = SELECT_ALL_TEMPLATE.formatted(tableName) + dialect.getLimitClause(limit, offset);
+        String query = metadata.getQueries().selectAll() + dialect.getLimitClause(limit, offset);
         List<Object> properties = offset != 0 ? List.of(limit, offset) : List.of(limit);
 
-        return entityPersister.select(type, query, properties);
+        return entityPersister.select(metadata, query, properties);
+    }
+
+    @Override
+    public <T> List<T> findPage(Class<T> type, Object afterId, int limit) {
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        return findPage(type, List.of(), afterId == null ? null : List.of(afterId), limit);
+    }
+
+    @Override
+    public <T> List<T> findPage(Class<T> type, List<String> sortColumns, List<Object> afterKey, int limit) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(sortColumns, "[sortColumns] argument must be not null");
+        Validator.checkNotNegativeNumber(limit, "[limit] argument cannot be negative number");
+        return loadPage(entityPersister, getKeysetQueries(type, sortColumns), afterKey, limit);
+    }
+
+    @Override
+    public <T> Paginator<T> paginate(Class<T> type, List<String> sortColumns, int pageSize) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(sortColumns, "[sortColumns] argument must be not null");
+        Validator.checkNotNegativeNumber(pageSize, "[pageSize] argument cannot be negative number");
+        KeysetQueries<T> queries = getKeysetQueries(type, sortColumns);
+        return new Paginator<>((afterKey, limit) -> {
+            checkIsOpen();
+            return loadPage(entityPersister, queries, afterKey, limit);
+        }, getKeyExtractor(queries.keyAttributes()), pageSize);
+    }
+
+    @Override
+    public <T> ReadAheadPaginator<T> paginate(Class<T> type, List<String> sortColumns, int pageSize,
+            int readAheadDepth) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(sortColumns, "[sortColumns] argument must be not null");
+        Validator.checkNotNegativeNumber(pageSize, "[pageSize] argument cannot be negative number");
+        if (readAheadDepth < 1) {
+            throw new IllegalArgumentException("[readAheadDepth] argument must be positive number");
+        }
+        KeysetQueries<T> queries = getKeysetQueries(type, sortColumns);
+        ReadAheadPaginator<T> paginator = new ReadAheadPaginator<>(dataSource,
+                persister -> new Paginator<>((afterKey, limit) -> loadPage(persister, queries, afterKey, limit),
+                        getKeyExtractor(queries.keyAttributes()), pageSize),
+                readAheadDepth, readAheadPaginators::remove);
+        readAheadPaginators.add(paginator);
+        return paginator;
+    }
+
+    private static <T> Function<T, List<Object>> getKeyExtractor(List<EntityAttribute> keyAttributes) {
+        return entity -> keyAttributes.stream()
+                .map(attribute -> attribute.getValue(entity))
+                .toList();
+    }
+
+    private static <T> List<T> loadPage(EntityPersister persister, KeysetQueries<T> queries, List<Object> afterKey,
+            int limit) {
+        int keySize = queries.keyAttributes().size();
+        boolean hasAfterKey = afterKey != null && !afterKey.isEmpty();
+        if (hasAfterKey && afterKey.size() != keySize) {
+            throw new IllegalArgumentException("[afterKey] argument must contain %d values of sort key"
+                    .formatted(keySize));
+        }
+        if (hasAfterKey && afterKey.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("[afterKey] argument must not contain null values");
+        }
+        log.trace("Finding page of {}", queries.metadata().getTableName());
+
+        List<Object> parameters = new ArrayList<>(keySize + 1);
+        if (hasAfterKey) {
+            parameters.addAll(afterKey);
+        }
+        parameters.add(limit);
+        return persister.select(queries.metadata(), hasAfterKey ? queries.afterKeyQuery() : queries.firstPageQuery(),
+                parameters);
+    }
+
+    /**
+     * Resolves the sort key of provided columns and renders keyset queries of the first and following pages once, so
+     * they are reused by every loaded page
+     */
+    private <T> KeysetQueries<T> getKeysetQueries(Class<T> type, List<String> sortColumns) {
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
+        List<EntityAttribute> keyAttributes = getKeyAttributes(metadata, sortColumns);
+        List<String> keyColumns = keyAttributes.stream()
+                .map(EntityAttribute::getColumnName)
+                .toList();
+        String tableName = metadata.getTableName();
+        return new KeysetQueries<>(metadata, keyAttributes, dialect.getKeysetPageQuery(tableName, keyColumns, false),
+                dialect.getKeysetPageQuery(tableName, keyColumns, true));
+    }
+
+    private record KeysetQueries<T>(EntityMetadata<T> metadata, List<EntityAttribute> keyAttributes,
+            String firstPageQuery, String afterKeyQuery) {
+    }
+
+    /**
+     * Resolves attributes of provided sort columns appending the id attribute, so the sort key is unique
+     */
+    private static List<EntityAttribute> getKeyAttributes(EntityMetadata<?> metadata, List<String> sortColumns) {
+        List<EntityAttribute> keyAttributes = new ArrayList<>(sortColumns.size() + 1);
+        for (String column : sortColumns) {
+            EntityAttribute attribute = metadata.getAttributes().stream()
+                    .filter(candidate -> candidate.getColumnName().equalsIgnoreCase(column))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Entity %s has no column '%s'"
+                            .formatted(metadata.getType().getName(), column)));
+            keyAttributes.add(attribute);
+        }
+        if (!keyAttributes.contains(metadata.getIdAttribute())) {
+            keyAttributes.add(metadata.getIdAttribute());
+        }
+        return keyAttributes;
     }
 
     @Override
@@ -112,72 +332,366 @@ public class SessionImpl implements Session {
         checkIsOpen();
         Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
         Objects.requireNonNull(properties, "[properties] argument must be not null");
-        Validator.validateEntity(type);
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
 
-        String tableName = getTableName(type);
+        String tableName = metadata.getTableName();
         log.trace("Finding {} by properties", tableName);
 
         String query = SELECT_ALL_BY_PROPERTIES_TEMPLATE.formatted(tableName, prepareWhereClause(properties.keySet()));
 
-        List<Object> values = properties.entrySet().stream()
+        return entityPersister.select(metadata, query, getPropertyValues(properties));
+    }
+
+    private static List<Object> getPropertyValues(Map<String, Object> properties) {
+        return properties.entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .map(Map.Entry::getValue)
                 .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findAll(Criteria<T> criteria) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getCompiledQuery(criteria, null);
+        log.trace("Finding {} by criteria", compiledQuery.getMetadata().getTableName());
+
+        return entityPersister.select((EntityMetadata<T>) compiledQuery.getMetadata(), compiledQuery.getSql(),
+                compiledQuery.getParameterBinder(criteria));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, R extends Record> List<R> project(Criteria<T> criteria, Class<R> projectionType) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        Objects.requireNonNull(projectionType, "[projectionType] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getCompiledQuery(criteria, projectionType);
+        log.trace("Finding {} projections by criteria", projectionType.getSimpleName());
+
+        return entityPersister.select((ProjectionMapper<R>) compiledQuery.getProjectionMapper(),
+                compiledQuery.getSql(), compiledQuery.getParameterBinder(criteria));
+    }
+
+    @Override
+    public long count(Criteria<?> criteria) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getCountQuery(criteria);
+        log.trace("Counting {} by criteria", compiledQuery.getMetadata().getTableName());
+
+        return entityPersister.query(compiledQuery.getSql(), compiledQuery.getParameterBinder(criteria),
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
+    }
+
+    @Override
+    public boolean exists(Criteria<?> criteria) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getExistsQuery(criteria);
+        log.trace("Checking existence of {} by criteria", compiledQuery.getMetadata().getTableName());
 
-        return entityPersister.select(type, query, values);
+        return entityPersister.query(compiledQuery.getSql(), compiledQuery.getParameterBinder(criteria),
+                ResultSet::next);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Optional<V> aggregate(Criteria<?> criteria, Aggregate aggregate, String attribute,
+            Class<V> resultType) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        Objects.requireNonNull(aggregate, "[aggregate] argument must be not null");
+        Objects.requireNonNull(attribute, "[attribute] argument must be not null");
+        Objects.requireNonNull(resultType, "[resultType] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getAggregateQuery(criteria, aggregate, attribute);
+        EntityAttribute entityAttribute = compiledQuery.getMetadata().getAttribute(attribute);
+        boolean converted = entityAttribute.getConverter() != null
+                && (aggregate == Aggregate.MIN || aggregate == Aggregate.MAX);
+        TypeHandler typeHandler = TypeHandler.forType(resultType);
+        log.trace("Computing {} of {}", aggregate, entityAttribute.getColumnName());
+
+        Object value = entityPersister.query(compiledQuery.getSql(), compiledQuery.getParameterBinder(criteria),
+                resultSet -> {
+                    if (!resultSet.next()) {
+                        return null;
+                    }
+                    return converted
+                            ? entityAttribute.convertToJavaType(resultSet.getObject(1))
+                            : typeHandler.read(resultSet, 1);
+                });
+        return Optional.ofNullable((V) Util.boxed(resultType).cast(value));
+    }
+
+    @Override
+    public <T> NativeQuery<T> createNativeQuery(String sql, Class<T> resultType) {
+        checkIsOpen();
+        Objects.requireNonNull(sql, "[sql] argument must be not null");
+        Objects.requireNonNull(resultType, "[resultType] argument must be not null");
+        return new NativeQuery<>(queryPlanCache.getNativeQueryPlan(sql, resultType), this::executeNativeQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> executeNativeQuery(NativeQuery<T> query) {
+        checkIsOpen();
+        NativeQueryPlan plan = query.getPlan();
+        log.trace("Executing native query {}", plan.getSql());
+
+        List<T> results = entityPersister.query(plan.getSql(), query.getParameterBinder(), resultSet -> {
+            RowMapper<?> rowMapper = plan.getRowMapper(resultSet);
+            List<T> resultList = new ArrayList<>();
+            while (resultSet.next()) {
+                resultList.add((T) rowMapper.mapRow(resultSet));
+            }
+            return resultList;
+        });
+        if (query.isManaged()) {
+            EntityMetadata<T> metadata = (EntityMetadata<T>) plan.getMetadata();
+            results.replaceAll(entity -> manage(metadata, entity));
+        }
+        return results;
+    }
+
+    @Override
+    public <T, R extends Record> List<R> project(Class<T> type, Class<R> projectionType,
+            Map<String, Object> properties) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(projectionType, "[projectionType] argument must be not null");
+        Objects.requireNonNull(properties, "[properties] argument must be not null");
+        ProjectionMapper<R> projectionMapper = metadataRegistry.getMetadata(type).getProjectionMapper(projectionType);
+        log.trace("Finding {} projections of {}", projectionType.getSimpleName(), type.getSimpleName());
+
+        String query = properties.isEmpty()
+                ? projectionMapper.getSelectQuery()
+                : projectionMapper.getSelectQuery() + " where " + prepareWhereClause(properties.keySet());
+        return entityPersister.select(projectionMapper, query, getPropertyValues(properties));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, StreamOptions options) {
+        return stream(type, Map.of(), options);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Map<String, Object> properties, StreamOptions options) {
+        checkIsOpen();
+        Objects.requireNonNull(type, TYPE_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(properties, "[properties] argument must be not null");
+        Objects.requireNonNull(options, "[options] argument must be not null");
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(type);
+
+        String tableName = metadata.getTableName();
+        log.trace("Streaming {} with fetch size {}", tableName, options.fetchSize());
+
+        String query = properties.isEmpty()
+                ? metadata.getQueries().selectAll()
+                : SELECT_ALL_BY_PROPERTIES_TEMPLATE.formatted(tableName, prepareWhereClause(properties.keySet()));
+        UnaryOperator<T> processor = options.managed()
+                ? entity -> manage(metadata, entity)
+                : UnaryOperator.identity();
+        return entityPersister.stream(metadata, query, getPropertyValues(properties), options.fetchSize(),
+                processor, beginCursorTransaction());
+    }
+
+    /**
+     * Puts loaded entity in the persistence context, unless entity with the same id is already contained there
+     * @return managed entity
+     */
+    private <T> T manage(EntityMetadata<T> metadata, T entity) {
+        Object id = metadata.getIdValue(entity);
+        Optional<T> cachedEntity = persistenceContext.getEntity(metadata.getType(), id);
+        if (cachedEntity.isPresent()) {
+            return cachedEntity.get();
+        }
+        persistenceContext.putEntity(entity, id);
+        persistenceContext.putEntitySnapshot(entity, id);
+        return entity;
+    }
+
+    /**
+     * Disables auto-commit, if the dialect fetches rows with a cursor only inside a transaction and no transaction is
+     * active. The implicit transaction is shared by all streams opened while it is active.
+     * @return action that commits the implicit transaction and restores auto-commit when the last stream sharing it is
+     * closed
+     */
+    private Runnable beginCursorTransaction() {
+        if (!dialect.requiresTransactionForCursor()) {
+            return () -> { };
+        }
+        if (cursorTransactionCount == 0) {
+            try {
+                if (!connection.getAutoCommit()) {
+                    return () -> { };
+                }
+                log.trace("Disabling auto-commit to fetch rows with cursor");
+                connection.setAutoCommit(false);
+            } catch (SQLException e) {
+                throw new BibernateException("Failed to disable auto-commit for streaming query", e);
+            }
+        }
+        cursorTransactionCount++;
+        return this::endCursorTransaction;
+    }
+
+    /**
+     * Commits the implicit cursor transaction and restores auto-commit when the last stream sharing it is closed.
+     * If a user transaction was begun meanwhile, auto-commit is restored when that transaction is finished.
+     */
+    private void endCursorTransaction() {
+        if (--cursorTransactionCount > 0) {
+            return;
+        }
+        if (transaction != null && transaction.getStatus() == TransactionStatus.ACTIVE) {
+            restoreAutoCommitAfterTransaction = true;
+            return;
+        }
+        try {
+            connection.commit();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new BibernateException("Failed to restore auto-commit after streaming query", e);
+        }
+    }
+
+    private void restoreAutoCommitAfterTransaction() {
+        if (!restoreAutoCommitAfterTransaction) {
+            return;
+        }
+        restoreAutoCommitAfterTransaction = false;
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new BibernateException("Failed to restore auto-commit after streaming query", e);
+        }
     }
 
     @Override
     public <T> void save(T entity) {
         checkIsOpen();
         Objects.requireNonNull(entity);
-        Validator.validateEntity(entity.getClass());
-        actionQueue.offer(new InsertAction(entityPersister, persistenceContext, entity));
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(entity.getClass());
+        if (metadata.getGenerationType() != null && metadata.getIdValue(entity) == null) {
+            if (metadata.getGenerationType() == GenerationType.IDENTITY) {
+                actionQueue.add(new IdentityInsertAction(entityPersister, persistenceContext, metadata, entity));
+                return;
+            }
+            metadata.getIdAttribute().setValue(entity, metadata.getGenerationType() == GenerationType.UUID
+                    ? UuidV7Generator.getInstance().generate()
+                    : generateSequenceId(metadata.getSequenceIdGenerator()));
+        }
+        actionQueue.add(new InsertAction(entityPersister, persistenceContext, metadata, entity));
+    }
+
+    private Object generateSequenceId(SequenceIdGenerator generator) {
+        return generator.generate(() -> entityPersister.query(
+                dialect.getSequenceNextValueQuery(generator.getSequenceName()), List.of(), resultSet -> {
+                    if (!resultSet.next()) {
+                        throw new BibernateException("Sequence %s returned no value"
+                                .formatted(generator.getSequenceName()));
+                    }
+                    return resultSet.getLong(1);
+                }));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void upsert(T entity) {
+        checkIsOpen();
+        Objects.requireNonNull(entity);
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata((Class<T>) entity.getClass());
+        Object idValue = metadata.getIdValue(entity);
+        if (idValue == null) {
+            throw new IllegalArgumentException("Id of upserted entity %s must be not null"
+                    .formatted(metadata.getType().getName()));
+        }
+        String query = queryPlanCache.getUpsertQuery(metadata);
+
+        T upsertedEntity = entity;
+        Optional<T> cachedEntity = persistenceContext.getEntity(metadata.getType(), idValue);
+        if (cachedEntity.isPresent()) {
+            upsertedEntity = metadata.mergeEntities(entity, cachedEntity.get());
+            persistenceContext.putEntitySnapshot(upsertedEntity, idValue);
+        }
+        actionQueue.add(new UpsertAction(entityPersister, persistenceContext, metadata, upsertedEntity, query));
     }
 
-    private <T> void update(T entity, Map<String, Object> updatedColumns) {
+    @Override
+    public <T> void upsertAll(Collection<T> entities) {
+        checkIsOpen();
+        Objects.requireNonNull(entities, "[entities] argument must be not null");
+        entities.forEach(this::upsert);
+    }
+
+    private <T> void update(T entity) {
         Objects.requireNonNull(entity);
-        Objects.requireNonNull(updatedColumns);
-        Validator.validateEntity(entity.getClass());
-        actionQueue.offer(new UpdateAction(entityPersister, entity, updatedColumns));
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(entity.getClass());
+        actionQueue.add(new UpdateAction(entityPersister, persistenceContext, metadata, entity));
     }
 
     @Override
     public <T> void delete(T entity) {
         checkIsOpen();
         Objects.requireNonNull(entity);
-        Validator.validateEntity(entity.getClass());
-        Object cachedEntity = persistenceContext.getEntity(entity.getClass(), Util.getIdFieldValue(entity))
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(entity.getClass());
+        Object cachedEntity = persistenceContext.getEntity(entity.getClass(), metadata.getIdValue(entity))
                 .orElseThrow(() -> new BibernateException("Detached entity cannot be removed"));
-        actionQueue.offer(new DeleteAction(entityPersister, persistenceContext, cachedEntity));
+        actionQueue.add(new DeleteAction(entityPersister, persistenceContext, metadata, cachedEntity));
+    }
+
+    @Override
+    public <T> int updateWhere(Criteria<T> criteria, Map<String, Object> values) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        Objects.requireNonNull(values, "[values] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getUpdateQuery(criteria, List.copyOf(values.keySet()));
+        flush();
+        log.trace("Updating {} by criteria", compiledQuery.getMetadata().getTableName());
+
+        int rowCount = entityPersister.update(compiledQuery.getSql(),
+                compiledQuery.getParameterBinder(criteria, values.values()));
+        persistenceContext.evictAll(criteria.getType());
+        return rowCount;
     }
 
     @Override
+    public <T> int deleteWhere(Criteria<T> criteria) {
+        checkIsOpen();
+        Objects.requireNonNull(criteria, "[criteria] argument must be not null");
+        CompiledQuery compiledQuery = queryPlanCache.getDeleteQuery(criteria);
+        flush();
+        log.trace("Deleting {} by criteria", compiledQuery.getMetadata().getTableName());
+
+        int rowCount = entityPersister.delete(compiledQuery.getSql(), compiledQuery.getParameterBinder(criteria));
+        persistenceContext.evictAll(criteria.getType());
+        return rowCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public <T> T merge(T entity) {
         checkIsOpen();
         Objects.requireNonNull(entity);
-        Validator.validateEntity(entity.getClass());
 
-        Class<?> entityType = entity.getClass();
-        Object idValue = Util.getIdFieldValue(entity);
+        Class<T> entityType = (Class<T>) entity.getClass();
+        EntityMetadata<T> metadata = metadataRegistry.getMetadata(entityType);
+        Object idValue = metadata.getIdValue(entity);
 
-        Optional<?> cachedEntity = persistenceContext.getEntity(entityType, idValue);
-        if (cachedEntity.isPresent()) {
-            return (T) mergeEntities(entity, cachedEntity.get());
-        }
-
-        Object loadedEntity = find(entityType, idValue).orElseThrow();
-        Optional<?> cachedLoadedEntity = persistenceContext.getEntity(loadedEntity.getClass(), Util.getIdFieldValue(loadedEntity));
-        return (T) mergeEntities(entity, cachedLoadedEntity.orElseThrow());
+        T managedEntity = persistenceContext.getEntity(entityType, idValue)
+                .orElseGet(() -> find(entityType, idValue).orElseThrow());
+        metadata.mergeEntities(entity, managedEntity);
+        persistenceContext.markDirty(managedEntity);
+        return managedEntity;
     }
 
     @Override
     public <T> void detach(T entity) {
         checkIsOpen();
         Objects.requireNonNull(entity);
-        Validator.validateEntity(entity.getClass());
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(entity.getClass());
 
-        Object idFieldValue = Util.getIdFieldValue(entity);
+        Object idFieldValue = metadata.getIdValue(entity);
         persistenceContext.evict(entity, idFieldValue);
     }
 
@@ -185,18 +699,16 @@ public class SessionImpl implements Session {
     public <T> boolean contains(T entity) {
         checkIsOpen();
         Objects.requireNonNull(entity);
-        return persistenceContext.getEntity(entity.getClass(), Util.getIdFieldValue(entity)).isPresent();
+        EntityMetadata<?> metadata = metadataRegistry.getMetadata(entity.getClass());
+        return persistenceContext.getEntity(entity.getClass(), metadata.getIdValue(entity)).isPresent();
     }
 
     @Override
     public void flush() {
         checkIsOpen();
         log.trace("Flushing session queued actions");
-        var updatedEntitiesColumnsMap = persistenceContext.getUpdatedEntitiesColumnsMap();
-        updatedEntitiesColumnsMap.forEach(this::update);
-        while (!actionQueue.isEmpty()) {
-            actionQueue.poll().execute();
-        }
+        persistenceContext.getDirtyEntities().forEach(this::update);
+        actionExecutor.execute(actionQueue.drain());
     }
 
     @Override
@@ -212,6 +724,7 @@ public class SessionImpl implements Session {
         checkTransactionIsInitialized();
         flush();
         transaction.commit();
+        restoreAutoCommitAfterTransaction();
     }
 
     @Override
@@ -219,6 +732,7 @@ public class SessionImpl implements Session {
         checkIsOpen();
         checkTransactionIsInitialized();
         transaction.rollback();
+        restoreAutoCommitAfterTransaction();
     }
 
     private void initTransaction() {
@@ -237,7 +751,10 @@ public class SessionImpl implements Session {
     public void close() {
         checkIsOpen();
         log.trace("Closing session");
+        List.copyOf(readAheadPaginators).forEach(ReadAheadPaginator::close);
         flush();
+        persistenceContext.clear();
+        entityPersister.close();
         try {
             connection.close();
         } catch (SQLException e) {
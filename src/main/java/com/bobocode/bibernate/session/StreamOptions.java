@@ -0,0 +1,34 @@
+package com.bobocode.bibernate.session;
+
+import com.bobocode.bibernate.Validator;
+
+/**
+ * Options of {@link Session#stream(Class, java.util.Map, StreamOptions) streaming queries}
+ * @param fetchSize number of rows fetched from DB at once, {@code 0} leaves the driver default
+ * @param managed   whether streamed entities are put in the persistence context. Unmanaged entities are not retained
+ *                  by the session, so memory stays flat regardless of the number of streamed rows, but their changes
+ *                  are not flushed
+ */
+public record StreamOptions(int fetchSize, boolean managed) {
+
+    public static final int DEFAULT_FETCH_SIZE = 256;
+    public static final StreamOptions DEFAULT = new StreamOptions(DEFAULT_FETCH_SIZE, true);
+
+    public StreamOptions {
+        Validator.checkNotNegativeNumber(fetchSize, "[fetchSize] cannot be negative number");
+    }
+
+    /**
+     * @return copy of the options with provided fetch size
+     */
+    public StreamOptions withFetchSize(int fetchSize) {
+        return new StreamOptions(fetchSize, managed);
+    }
+
+    /**
+     * @return copy of the options producing entities that are not put in the persistence context
+     */
+    public StreamOptions unmanaged() {
+        return new StreamOptions(fetchSize, false);
+    }
+}
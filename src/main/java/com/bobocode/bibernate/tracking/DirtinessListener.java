@@ -0,0 +1,13 @@
+package com.bobocode.bibernate.tracking;
+
+/**
+ * Receives notifications of {@link SelfDirtinessTracker self-tracking} entities about changes of their state
+ */
+@FunctionalInterface
+public interface DirtinessListener {
+
+    /**
+     * Marks provided managed entity as changed, so it is updated on the next flush
+     */
+    void markDirty(Object entity);
+}
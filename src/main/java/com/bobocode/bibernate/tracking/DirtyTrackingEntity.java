@@ -0,0 +1,26 @@
+package com.bobocode.bibernate.tracking;
+
+/**
+ * Base class of {@link SelfDirtinessTracker self-tracking} entities. Setters of persistent fields must call
+ * {@link #markDirty()} after changing the field. Fields of this class are not mapped, since only fields declared by
+ * the entity class itself are persistent.
+ */
+public abstract class DirtyTrackingEntity implements SelfDirtinessTracker {
+
+    private transient DirtinessListener dirtinessListener;
+
+    @Override
+    public void setDirtinessListener(DirtinessListener listener) {
+        this.dirtinessListener = listener;
+    }
+
+    /**
+     * Notifies the session managing this entity, if any, that the entity is changed
+     */
+    protected void markDirty() {
+        DirtinessListener listener = dirtinessListener;
+        if (listener != null) {
+            listener.markDirty(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bobocode.bibernate.tracking;
+
+/**
+ * Opt-in interface of entities that report their own modifications. Such entities are not
+ * snapshotted: while an entity is managed, the {@link com.bobocode.bibernate.session.Session session} sets a listener
+ * to it, and the entity must call {@link DirtinessListener#markDirty(Object)} whenever a persistent field is changed,
+ * e.g. from its setters. {@link com.bobocode.bibernate.session.Session#flush() Flush} then updates only entities
+ * marked dirty instead of comparing every managed entity with its snapshot.
+ * <p>
+ * Changes made by assigning fields directly, without notifying the listener, are not flushed.
+ * {@link DirtyTrackingEntity} can be extended to implement this interface.
+ */
+public interface SelfDirtinessTracker {
+
+    /**
+     * Sets listener to be notified about changes of the entity
+     * @param listener listener of the session managing the entity, {@code null} when the entity is detached
+     */
+    void setDirtinessListener(DirtinessListener listener);
+}
@@ -8,4 +8,6 @@ public interface Transaction {
 
     void rollback();
 
+    TransactionStatus getStatus();
+
 }
@@ -61,6 +61,7 @@ public class TransactionImpl implements Transaction {
 
     }
 
+    @Override
     public TransactionStatus getStatus() {
         return status;
     }
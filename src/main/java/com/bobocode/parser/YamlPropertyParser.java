@@ -80,7 +80,7 @@ public class YamlPropertyParser implements PropertyParser {
         }
         String propertyName = propertyNamePrefix.contains(currentProperty.getKey()) ? propertyNamePrefix :
                               propertyNamePrefix + ".";
-        String propertyValue = mapObjectTo(currentProperty.getValue(), String.class);
+        String propertyValue = String.valueOf(currentProperty.getValue());
 
         log.trace("Found property: {}={}", propertyName, propertyValue);
         return Stream.of(Map.entry(propertyName, propertyValue));
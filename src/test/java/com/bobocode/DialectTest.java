@@ -1,13 +1,17 @@
 package com.bobocode;
 
+import com.bobocode.bibernate.configuration.dialects.H2Dialect;
+import com.bobocode.bibernate.configuration.dialects.PostgreSQLDialect;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.bobocode.bibernate.configuration.Dialect.prepareWhereClause;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class DialectTest {
@@ -25,4 +29,47 @@ class DialectTest {
 
         assertEquals(expectedResult, prepareWhereClause(properties.keySet()));
     }
+
+    @Test
+    @DisplayName("Renders multi-row insert")
+    void rendersMultiRowInsert() {
+        String expectedResult = "insert into persons (id, name) values (?, ?), (?, ?), (?, ?)";
+
+        assertThat(new H2Dialect().getMultiRowInsertQuery("persons", List.of("id", "name"), 3))
+                .isEqualTo(expectedResult);
+        assertThat(new PostgreSQLDialect().getMultiRowInsertQuery("persons", List.of("id", "name"), 3))
+                .isEqualTo(expectedResult);
+    }
+
+    @Test
+    @DisplayName("Renders keyset pagination query with row value comparison")
+    void rendersKeysetPageQuery() {
+        assertThat(new H2Dialect().getKeysetPageQuery("persons", List.of("id"), false))
+                .isEqualTo("select * from persons order by id limit ?");
+        assertThat(new H2Dialect().getKeysetPageQuery("persons", List.of("id"), true))
+                .isEqualTo("select * from persons where id > ? order by id limit ?");
+        assertThat(new PostgreSQLDialect().getKeysetPageQuery("persons", List.of("name", "id"), true))
+                .isEqualTo("select * from persons where (name, id) > (?, ?) order by name, id limit ?");
+    }
+
+    @Test
+    @DisplayName("Renders upsert statement of the dialect")
+    void rendersUpsert() {
+        List<String> columns = List.of("id", "name", "age");
+
+        assertThat(new H2Dialect().getUpsertQuery("persons", columns, "id"))
+                .isEqualTo("merge into persons (id, name, age) key (id) values (?, ?, ?)");
+        assertThat(new PostgreSQLDialect().getUpsertQuery("persons", columns, "id"))
+                .isEqualTo("insert into persons (id, name, age) values (?, ?, ?) on conflict (id) "
+                        + "do update set name = excluded.name, age = excluded.age");
+    }
+
+    @Test
+    @DisplayName("Renders next sequence value query of the dialect")
+    void rendersSequenceNextValueQuery() {
+        assertThat(new H2Dialect().getSequenceNextValueQuery("invoices_seq"))
+                .isEqualTo("select next value for invoices_seq");
+        assertThat(new PostgreSQLDialect().getSequenceNextValueQuery("invoices_seq"))
+                .isEqualTo("select nextval('invoices_seq')");
+    }
 }
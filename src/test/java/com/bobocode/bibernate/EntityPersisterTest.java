@@ -0,0 +1,52 @@
+package com.bobocode.bibernate;
+
+import com.bobocode.bibernate.exception.BibernateSQLException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntityPersisterTest {
+
+    private static final String INSERT = "insert into products (id, name) values (?, ?)";
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    @DisplayName("Clears batch of cached statement when binding of a row fails")
+    void clearsBatchWhenBindingFails() throws SQLException {
+        when(connection.prepareStatement(INSERT)).thenReturn(statement);
+        EntityPersister entityPersister = new EntityPersister(connection, 2);
+        ParameterBinder failingBinder = (preparedStatement, startIndex) -> {
+            throw new SQLException("Cannot bind");
+        };
+
+        assertThatThrownBy(() -> entityPersister.executeBatch(INSERT,
+                List.of(ParameterBinder.of(List.of(1L, "rope")), failingBinder)))
+                .isInstanceOf(BibernateSQLException.class)
+                .hasRootCauseMessage("Cannot bind");
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).clearBatch();
+        verify(statement, never()).executeBatch();
+    }
+}
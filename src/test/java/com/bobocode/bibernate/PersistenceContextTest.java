@@ -1,10 +1,11 @@
 package com.bobocode.bibernate;
 
 import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.TrackedProduct;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,7 +16,7 @@ class PersistenceContextTest {
 
     @BeforeEach
     void setUp() {
-        persistenceContext = new PersistenceContext();
+        persistenceContext = new PersistenceContext(new EntityMetadataRegistry());
     }
 
     @Test
@@ -35,20 +36,62 @@ class PersistenceContextTest {
     }
 
     @Test
-    void getUpdatedEntitiesColumnsMap() {
-        long id = 1L;
-        Product entity = new Product().id(id);
-        Product entitySnapshot = new Product().id(id);
-        persistenceContext.putEntity(entity, id);
-        persistenceContext.putEntitySnapshot(entitySnapshot, id);
+    void evictAllEntitiesOfType() {
+        Product first = new Product().id(1L);
+        Product second = new Product().id(2L);
+        persistenceContext.putEntity(first, 1L);
+        persistenceContext.putEntitySnapshot(first, 1L);
+        persistenceContext.putEntity(second, 2L);
 
-        String newName = "new Name";
-        double newPrice = 10.0;
-        entity.name(newName).price(newPrice);
+        int evicted = persistenceContext.evictAll(Product.class);
 
-        var updatedEntitiesColumnsMap = persistenceContext.getUpdatedEntitiesColumnsMap();
+        assertThat(evicted).isEqualTo(2);
+        assertThat(persistenceContext.getEntity(Product.class, 1L)).isEmpty();
+        assertThat(persistenceContext.getDirtyEntities()).isEmpty();
+    }
+
+    @Test
+    void getDirtyEntitiesReturnsOnlyChangedSnapshottedEntities() {
+        Product changed = new Product().id(1L).name("rope");
+        Product unchanged = new Product().id(2L).name("knife");
+        persistenceContext.putEntity(changed, 1L);
+        persistenceContext.putEntitySnapshot(changed, 1L);
+        persistenceContext.putEntity(unchanged, 2L);
+        persistenceContext.putEntitySnapshot(unchanged, 2L);
+
+        changed.name("new Name").price(10.0);
+
+        assertThat(persistenceContext.getDirtyEntities()).containsExactly(changed);
+        persistenceContext.putEntitySnapshot(changed, 1L);
+        assertThat(persistenceContext.getDirtyEntities()).isEmpty();
+    }
+
+    @Test
+    void getDirtyEntitiesReturnsOnlyMarkedSelfTrackingEntities() {
+        TrackedProduct changed = new TrackedProduct().id(1L).name("rope");
+        TrackedProduct unchanged = new TrackedProduct().id(2L).name("knife");
+        persistenceContext.putEntity(changed, 1L);
+        persistenceContext.putEntitySnapshot(changed, 1L);
+        persistenceContext.putEntity(unchanged, 2L);
+        persistenceContext.putEntitySnapshot(unchanged, 2L);
+
+        changed.price(10.0);
+
+        assertThat(persistenceContext.getDirtyEntities()).containsExactly(changed);
+        persistenceContext.putEntitySnapshot(changed, 1L);
+        assertThat(persistenceContext.getDirtyEntities()).isEmpty();
+    }
+
+    @Test
+    void evictStopsTrackingOfSelfTrackingEntity() {
+        TrackedProduct entity = new TrackedProduct().id(1L);
+        persistenceContext.putEntity(entity, 1L);
+        persistenceContext.putEntitySnapshot(entity, 1L);
+        entity.name("rope");
+
+        persistenceContext.evict(entity, 1L);
+        entity.name("knife");
 
-        assertThat(updatedEntitiesColumnsMap)
-                .containsEntry(entity, Map.of("name", newName, "price", newPrice));
+        assertThat(persistenceContext.getDirtyEntities()).isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.bobocode.bibernate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCacheTest {
+
+    private static final String FIRST_QUERY = "select * from products where id = ?";
+    private static final String SECOND_QUERY = "delete from products where id = ?";
+    private static final String THIRD_QUERY = "select * from products";
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("Prepares statement once and reuses it for the same SQL")
+    void reusesStatement() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(FIRST_QUERY)).thenReturn(statement);
+        StatementCache cache = new StatementCache(connection, 2);
+
+        PreparedStatement first = cache.prepare(FIRST_QUERY);
+        cache.release(first);
+        PreparedStatement second = cache.prepare(FIRST_QUERY);
+        cache.release(second);
+
+        assertThat(second).isSameAs(first);
+        verify(connection, times(1)).prepareStatement(FIRST_QUERY);
+        verify(statement, never()).close();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Closes least recently used statement when cache is full")
+    void evictsLeastRecentlyUsedStatement() throws SQLException {
+        PreparedStatement firstStatement = mock(PreparedStatement.class);
+        PreparedStatement secondStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(FIRST_QUERY)).thenReturn(firstStatement);
+        when(connection.prepareStatement(SECOND_QUERY)).thenReturn(secondStatement);
+        when(connection.prepareStatement(THIRD_QUERY)).thenReturn(mock(PreparedStatement.class));
+        StatementCache cache = new StatementCache(connection, 2);
+
+        cache.prepare(FIRST_QUERY);
+        cache.prepare(SECOND_QUERY);
+        cache.prepare(FIRST_QUERY);
+        cache.prepare(THIRD_QUERY);
+
+        verify(secondStatement).close();
+        verify(firstStatement, never()).close();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Closes statements after use when caching is disabled")
+    void closesStatementWhenCacheIsDisabled() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(FIRST_QUERY)).thenReturn(statement);
+        StatementCache cache = new StatementCache(connection, 0);
+
+        cache.release(cache.prepare(FIRST_QUERY));
+
+        verify(statement).close();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Closes all cached statements on close")
+    void closesCachedStatements() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(FIRST_QUERY)).thenReturn(statement);
+        StatementCache cache = new StatementCache(connection, 2);
+        cache.release(cache.prepare(FIRST_QUERY));
+
+        cache.close();
+
+        verify(statement).close();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.bobocode.bibernate.action;
+
+import com.bobocode.bibernate.EntityPersister;
+import com.bobocode.bibernate.ParameterBinder;
+import com.bobocode.bibernate.PersistenceContext;
+import com.bobocode.bibernate.configuration.dialects.H2Dialect;
+import com.bobocode.bibernate.integration.entity.Person;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.configuration.JdbcSettings;
+import com.bobocode.bibernate.exception.BibernateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActionExecutorTest {
+
+    private static final String INSERT = "insert into persons (id, name) values (?, ?)";
+    private static final String DELETE = "delete from persons where id = ?";
+
+    @Mock
+    private EntityPersister entityPersister;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Captor
+    private ArgumentCaptor<List<ParameterBinder>> batchCaptor;
+
+    @Captor
+    private ArgumentCaptor<ParameterBinder> binderCaptor;
+
+    @Test
+    @DisplayName("Groups consecutive actions with the same SQL into batches of configured size")
+    void groupsActionsIntoBatches() throws SQLException {
+        BatchableAction first = action(INSERT);
+        BatchableAction second = action(INSERT);
+        BatchableAction third = action(INSERT);
+        BatchableAction delete = action(DELETE);
+        when(entityPersister.executeBatch(eq(INSERT), anyList())).thenReturn(new int[]{1, Statement.SUCCESS_NO_INFO});
+
+        new ActionExecutor(entityPersister, null, batchSettings(2)).execute(List.of(first, second, third, delete));
+
+        InOrder inOrder = inOrder(entityPersister, first, second, third, delete);
+        inOrder.verify(entityPersister).executeBatch(eq(INSERT), batchCaptor.capture());
+        inOrder.verify(first).checkRowCount(1);
+        inOrder.verify(second).checkRowCount(Statement.SUCCESS_NO_INFO);
+        inOrder.verify(first).afterExecute();
+        inOrder.verify(second).afterExecute();
+        inOrder.verify(third).execute();
+        inOrder.verify(delete).execute();
+        assertThat(batchCaptor.getValue()).hasSize(2);
+        for (ParameterBinder parameterBinder : batchCaptor.getValue()) {
+            parameterBinder.bind(statement, 1);
+        }
+        verify(first).bindParameters(statement, 1);
+        verify(second).bindParameters(statement, 1);
+    }
+
+    @Test
+    @DisplayName("Executes actions one by one when batching is disabled")
+    void executesActionsOneByOneWhenBatchingIsDisabled() {
+        BatchableAction first = action(INSERT);
+        BatchableAction second = action(INSERT);
+
+        new ActionExecutor(entityPersister, null, batchSettings(1)).execute(List.of(first, second));
+
+        verify(first).execute();
+        verify(second).execute();
+        verify(entityPersister, never()).executeBatch(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Does not update persistence context when row count of a batched statement is unexpected")
+    void throwsExceptionOnUnexpectedRowCount() {
+        BatchableAction first = action(DELETE);
+        BatchableAction second = action(DELETE);
+        when(entityPersister.executeBatch(eq(DELETE), anyList())).thenReturn(new int[]{1, 0});
+        doThrow(new BibernateException("Unexpected row count 0")).when(second).checkRowCount(0);
+        ActionExecutor executor = new ActionExecutor(entityPersister, null, batchSettings(10));
+        List<Action> actions = List.of(first, second);
+
+        assertThatThrownBy(() -> executor.execute(actions))
+                .isInstanceOf(BibernateException.class)
+                .hasMessage("Unexpected row count 0");
+        verify(first, never()).afterExecute();
+        verify(second, never()).afterExecute();
+    }
+
+    @Test
+    @DisplayName("Splits run of inserts into multi-row inserts with power of two row counts")
+    void splitsInsertsIntoMultiRowInserts() throws SQLException {
+        PersistenceContext persistenceContext = mock(PersistenceContext.class);
+        EntityMetadata<Person> metadata = new EntityMetadataRegistry().getMetadata(Person.class);
+        List<InsertAction> actions = LongStream.rangeClosed(1, 7)
+                .mapToObj(id -> new InsertAction(entityPersister, persistenceContext, metadata,
+                        new Person().id(id).name("Frodo").age((int) id)))
+                .toList();
+        String fourRows = "insert into persons (id, name, age) values (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?)";
+        String twoRows = "insert into persons (id, name, age) values (?, ?, ?), (?, ?, ?)";
+        when(entityPersister.insert(anyString(), any())).thenReturn(4, 2, 1);
+
+        new ActionExecutor(entityPersister, new H2Dialect(), new JdbcSettings(0, 1, false, false, 6))
+                .execute(actions);
+
+        InOrder inOrder = inOrder(entityPersister);
+        inOrder.verify(entityPersister).insert(eq(fourRows), binderCaptor.capture());
+        inOrder.verify(entityPersister).insert(eq(twoRows), binderCaptor.capture());
+        inOrder.verify(entityPersister).insert(eq(metadata.getQueries().insert()), binderCaptor.capture());
+        LongStream.rangeClosed(1, 7).forEach(id -> verify(persistenceContext).putEntity(any(), eq(id)));
+        verifyBoundRows(binderCaptor.getAllValues().get(0), 1, 4);
+        verifyBoundRows(binderCaptor.getAllValues().get(1), 5, 6);
+        verifyBoundRows(binderCaptor.getAllValues().get(2), 7, 7);
+    }
+
+    private static void verifyBoundRows(ParameterBinder parameterBinder, int fromId, int toId) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        parameterBinder.bind(statement, 1);
+        for (int id = fromId; id <= toId; id++) {
+            int index = 1 + (id - fromId) * 3;
+            verify(statement).setLong(index, id);
+            verify(statement).setString(index + 1, "Frodo");
+            verify(statement).setInt(index + 2, id);
+        }
+    }
+
+    private static JdbcSettings batchSettings(int batchSize) {
+        return new JdbcSettings(0, batchSize, false, false, 1);
+    }
+
+    private static BatchableAction action(String sql) {
+        BatchableAction action = mock(BatchableAction.class);
+        when(action.getSql()).thenReturn(sql);
+        return action;
+    }
+}
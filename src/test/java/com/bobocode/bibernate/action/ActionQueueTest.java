@@ -0,0 +1,82 @@
+package com.bobocode.bibernate.action;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActionQueueTest {
+
+    private static final String INSERT_PERSON = "insert into persons (id, name) values (?, ?)";
+    private static final String INSERT_PRODUCT = "insert into products (id, name) values (?, ?)";
+    private static final String UPDATE_PERSON = "update persons set name = ? where id = ?";
+    private static final String UPDATE_PRODUCT = "update products set name = ? where id = ?";
+    private static final String DELETE_PERSON = "delete from persons where id = ?";
+
+    private final BatchableAction insertPerson1 = action(INSERT_PERSON, ActionPriority.INSERT_PRIORITY);
+    private final BatchableAction insertProduct1 = action(INSERT_PRODUCT, ActionPriority.INSERT_PRIORITY);
+    private final BatchableAction insertPerson2 = action(INSERT_PERSON, ActionPriority.INSERT_PRIORITY);
+    private final BatchableAction insertProduct2 = action(INSERT_PRODUCT, ActionPriority.INSERT_PRIORITY);
+    private final BatchableAction updateProduct = action(UPDATE_PRODUCT, ActionPriority.UPDATE_PRIORITY);
+    private final BatchableAction updatePerson = action(UPDATE_PERSON, ActionPriority.UPDATE_PRIORITY);
+    private final BatchableAction updateProduct2 = action(UPDATE_PRODUCT, ActionPriority.UPDATE_PRIORITY);
+    private final BatchableAction deletePerson = action(DELETE_PERSON, ActionPriority.DELETE_PRIORITY);
+
+    @Test
+    @DisplayName("Drains actions by priority keeping the order they were added in")
+    void drainsActionsByPriority() {
+        ActionQueue queue = fill(new ActionQueue(false, false));
+
+        assertThat(queue.drain()).containsExactly(insertPerson1, insertProduct1, insertPerson2, insertProduct2,
+                updateProduct, updatePerson, updateProduct2, deletePerson);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Groups inserts and updates by SQL in the order of first appearance")
+    void groupsInsertsAndUpdatesBySql() {
+        ActionQueue queue = fill(new ActionQueue(true, true));
+
+        assertThat(queue.drain()).containsExactly(insertPerson1, insertPerson2, insertProduct1, insertProduct2,
+                updateProduct, updateProduct2, updatePerson, deletePerson);
+    }
+
+    @Test
+    @DisplayName("Groups only inserts when ordering of updates is disabled")
+    void groupsOnlyInserts() {
+        ActionQueue queue = fill(new ActionQueue(true, false));
+
+        assertThat(queue.drain()).containsExactly(insertPerson1, insertPerson2, insertProduct1, insertProduct2,
+                updateProduct, updatePerson, updateProduct2, deletePerson);
+    }
+
+    @Test
+    @DisplayName("Keeps non-batchable insert of a child behind the group of its parent")
+    void keepsNonBatchableInsertBehindItsParentGroup() {
+        Action insertIdentityOrder = mock(Action.class);
+        when(insertIdentityOrder.getPriority()).thenReturn(ActionPriority.INSERT_PRIORITY);
+        ActionQueue queue = new ActionQueue(true, false);
+        List.of(insertProduct1, insertPerson1, insertIdentityOrder, insertProduct2, insertPerson2)
+                .forEach(queue::add);
+
+        assertThat(queue.drain()).containsExactly(insertProduct1, insertProduct2, insertPerson1, insertPerson2,
+                insertIdentityOrder);
+    }
+
+    private ActionQueue fill(ActionQueue queue) {
+        List.of(deletePerson, insertPerson1, updateProduct, insertProduct1, updatePerson, insertPerson2,
+                updateProduct2, insertProduct2).forEach(queue::add);
+        return queue;
+    }
+
+    private static BatchableAction action(String sql, ActionPriority priority) {
+        BatchableAction action = mock(BatchableAction.class);
+        when(action.getSql()).thenReturn(sql);
+        when(action.getPriority()).thenReturn(priority);
+        return action;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bobocode.bibernate.benchmark;
+
+import com.bobocode.bibernate.PersistenceContext;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.TrackedProduct;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures time of finding dirty entities among {@link #MANAGED_ENTITIES} managed entities with
+ * {@link #MODIFIED_ENTITIES} modified ones, comparing snapshots and with
+ * {@link com.bobocode.bibernate.tracking.SelfDirtinessTracker self-tracking} entities. Excluded from the default build,
+ * run with {@code mvn test -P benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class DirtyCheckingBenchmarkTest {
+
+    private static final int MANAGED_ENTITIES = 50_000;
+    private static final int MODIFIED_ENTITIES = 10;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int ITERATIONS = 50;
+
+    private final EntityMetadataRegistry metadataRegistry = new EntityMetadataRegistry();
+
+    @Test
+    @DisplayName("Self-tracking entities are found dirty faster than snapshotted ones")
+    void measuresDirtyChecking() {
+        long snapshotNanos = measure(id -> new Product().id(id).name("product").price(1.0),
+                (product, price) -> product.price(price));
+        long trackingNanos = measure(id -> new TrackedProduct().id(id).name("product").price(1.0),
+                (product, price) -> product.price(price));
+
+        log.info("snapshot comparison: {} us per flush", snapshotNanos / 1000);
+        log.info("self-tracking:       {} us per flush", trackingNanos / 1000);
+        assertThat(trackingNanos).isLessThan(snapshotNanos);
+    }
+
+    /**
+     * @return average nanoseconds of finding dirty entities
+     */
+    private <T> long measure(LongFunction<T> factory, BiConsumer<T, Double> modification) {
+        PersistenceContext persistenceContext = new PersistenceContext(metadataRegistry);
+        List<T> entities = new ArrayList<>(MANAGED_ENTITIES);
+        for (long id = 0; id < MANAGED_ENTITIES; id++) {
+            T entity = factory.apply(id);
+            persistenceContext.putEntity(entity, id);
+            persistenceContext.putEntitySnapshot(entity, id);
+            entities.add(entity);
+        }
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            findDirtyEntities(persistenceContext, entities, modification, i);
+        }
+        long elapsedNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            elapsedNanos += findDirtyEntities(persistenceContext, entities, modification, WARMUP_ITERATIONS + i);
+        }
+        return elapsedNanos / ITERATIONS;
+    }
+
+    /**
+     * Modifies entities, finds them dirty and marks them clean, as flush does
+     * @return nanoseconds spent finding dirty entities
+     */
+    private <T> long findDirtyEntities(PersistenceContext persistenceContext, List<T> entities,
+            BiConsumer<T, Double> modification, int iteration) {
+        for (int i = 0; i < MODIFIED_ENTITIES; i++) {
+            modification.accept(entities.get(i * (MANAGED_ENTITIES / MODIFIED_ENTITIES)), (double) iteration + 2);
+        }
+        long start = System.nanoTime();
+        List<Object> dirtyEntities = persistenceContext.getDirtyEntities();
+        long elapsedNanos = System.nanoTime() - start;
+        assertThat(dirtyEntities).hasSize(MODIFIED_ENTITIES);
+        for (Object entity : dirtyEntities) {
+            Object id = metadataRegistry.getMetadata(entity.getClass()).getIdValue(entity);
+            persistenceContext.putEntitySnapshot(entity, id);
+        }
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,139 @@
+package com.bobocode.bibernate.benchmark;
+
+import com.bobocode.bibernate.metadata.EntityAttribute;
+import com.bobocode.bibernate.metadata.EntityMetadata;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import com.bobocode.bibernate.metadata.EntityRowMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures bytes allocated per hydrated row by reading columns with {@link ResultSet#getObject(int)} and setting boxed
+ * values, as Bibernate did before {@link com.bobocode.bibernate.metadata.TypeHandler type handlers}, and by typed
+ * {@link EntityRowMapper}. Excluded from the default build, run with {@code mvn test -P benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class HydrationAllocationBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 20;
+    /**
+     * Columns are selected in the order of entity attributes
+     */
+    private static final String SELECT_ALL = "select id, sensor, reading_value, valid, label from readings";
+
+    private final EntityMetadata<Reading> metadata = new EntityMetadataRegistry().getMetadata(Reading.class);
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private Connection connection;
+
+    @BeforeEach
+    void init() throws SQLException {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        connection = DriverManager.getConnection("jdbc:h2:mem:hydration-benchmark", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table readings (id bigint primary key, sensor int, reading_value double, "
+                    + "valid boolean, label varchar(32))");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("insert into readings values (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setLong(1, i);
+                statement.setInt(2, i % 100);
+                statement.setDouble(3, i * 0.5);
+                statement.setBoolean(4, i % 2 == 0);
+                statement.setString(5, "sensor");
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table readings");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Typed row mapper allocates less per row than getObject and boxed setters")
+    void measuresAllocatedBytesPerRow() throws SQLException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            hydrateWithGetObject();
+            hydrateWithRowMapper();
+        }
+        long getObjectBytes = measure(this::hydrateWithGetObject);
+        long rowMapperBytes = measure(this::hydrateWithRowMapper);
+
+        log.info("getObject and boxed setters: {} bytes/row", getObjectBytes);
+        log.info("typed row mapper:            {} bytes/row", rowMapperBytes);
+        assertThat(rowMapperBytes).isLessThan(getObjectBytes);
+    }
+
+    private long measure(Hydration hydration) throws SQLException {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += hydration.run();
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        assertThat(checksum).isPositive();
+        return allocated / ((long) ROWS * ITERATIONS);
+    }
+
+    private long hydrateWithGetObject() throws SQLException {
+        List<EntityAttribute> attributes = metadata.getAttributes();
+        long checksum = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_ALL)) {
+            while (resultSet.next()) {
+                Reading reading = metadata.newInstance();
+                for (int i = 0; i < attributes.size(); i++) {
+                    attributes.get(i).setValue(reading, resultSet.getObject(i + 1));
+                }
+                checksum += reading.getSensor();
+            }
+        }
+        return checksum;
+    }
+
+    private long hydrateWithRowMapper() throws SQLException {
+        long checksum = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_ALL)) {
+            EntityRowMapper<Reading> rowMapper = metadata.getRowMapper(resultSet);
+            while (resultSet.next()) {
+                checksum += rowMapper.mapRow(resultSet).getSensor();
+            }
+        }
+        return checksum;
+    }
+
+    @FunctionalInterface
+    private interface Hydration {
+        long run() throws SQLException;
+    }
+}
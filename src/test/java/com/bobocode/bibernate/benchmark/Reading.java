@@ -0,0 +1,28 @@
+package com.bobocode.bibernate.benchmark;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import lombok.Data;
+
+@Table("readings")
+@Data
+@Entity
+public class Reading {
+    @Id
+    @Column("id")
+    private long id;
+
+    @Column("sensor")
+    private int sensor;
+
+    @Column("reading_value")
+    private double value;
+
+    @Column("valid")
+    private boolean valid;
+
+    @Column("label")
+    private String label;
+}
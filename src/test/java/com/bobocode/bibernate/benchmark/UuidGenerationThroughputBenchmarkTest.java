@@ -0,0 +1,90 @@
+package com.bobocode.bibernate.benchmark;
+
+import com.bobocode.bibernate.id.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures throughput of {@link UuidV7Generator} and {@link UUID#randomUUID()} called concurrently by one thread per
+ * available processor. Excluded from the default build, run with {@code mvn test -P benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class UuidGenerationThroughputBenchmarkTest {
+
+    private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int UUIDS_PER_THREAD = 1_000_000;
+    private static final int WARMUP_ITERATIONS = 3;
+
+    @Test
+    @DisplayName("UUIDv7 generator produces ordered UUIDs faster than random UUIDs under contention")
+    void measuresThroughput() throws InterruptedException, ExecutionException {
+        UuidV7Generator generator = UuidV7Generator.getInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                measure(executor, generator::generate, true);
+                measure(executor, UUID::randomUUID, false);
+            }
+            long uuidV7PerSecond = measure(executor, generator::generate, true);
+            long randomUuidPerSecond = measure(executor, UUID::randomUUID, false);
+
+            log.info("{} threads, UUIDv7 generator: {} UUIDs/s", THREADS, uuidV7PerSecond);
+            log.info("{} threads, UUID.randomUUID:  {} UUIDs/s", THREADS, randomUuidPerSecond);
+            assertThat(uuidV7PerSecond).isGreaterThan(randomUuidPerSecond);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates UUIDs in all threads at once
+     * @param ordered whether every thread must observe increasing UUIDs
+     * @return UUIDs generated per second by all threads
+     */
+    private long measure(ExecutorService executor, Supplier<UUID> generator, boolean ordered)
+            throws InterruptedException, ExecutionException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long outOfOrder = 0;
+                UUID previous = generator.get();
+                for (int j = 1; j < UUIDS_PER_THREAD; j++) {
+                    UUID uuid = generator.get();
+                    if (uuid.compareTo(previous) <= 0) {
+                        outOfOrder++;
+                    }
+                    previous = uuid;
+                }
+                return outOfOrder;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        long outOfOrder = 0;
+        for (Future<Long> result : results) {
+            outOfOrder += result.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (ordered) {
+            assertThat(outOfOrder).isZero();
+        }
+        return (long) THREADS * UUIDS_PER_THREAD * 1_000_000_000L / elapsedNanos;
+    }
+}
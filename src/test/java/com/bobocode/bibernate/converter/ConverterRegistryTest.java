@@ -0,0 +1,84 @@
+package com.bobocode.bibernate.converter;
+
+import com.bobocode.bibernate.annotation.Convert;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.integration.entity.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConverterRegistryTest {
+
+    private final ConverterRegistry converterRegistry = new ConverterRegistry();
+
+    @Test
+    @DisplayName("Shares single converter instance between attributes")
+    void sharesConverterInstance() throws NoSuchFieldException {
+        Field status = Ticket.class.getDeclaredField("status");
+
+        AttributeConverter<?> converter = converterRegistry.getConverter(status);
+
+        assertThat(converter).isInstanceOf(Ticket.StatusConverter.class)
+                .isSameAs(converterRegistry.getConverter(status));
+        assertThat(converterRegistry.getConverter(Ticket.class.getDeclaredField("id"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Resolves built-in converters to their singletons")
+    void resolvesBuiltInConverters() throws NoSuchFieldException {
+        assertThat(converterRegistry.getConverter(Dates.class.getDeclaredField("localDate")))
+                .isSameAs(LocalDateTypeConverter.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when converter type does not match field type")
+    void throwsExceptionOnConverterTypeMismatch() throws NoSuchFieldException {
+        Field field = Dates.class.getDeclaredField("mismatched");
+
+        assertThatThrownBy(() -> converterRegistry.getConverter(field))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessageContaining("cannot be assigned to java.lang.String");
+    }
+
+    @Test
+    @DisplayName("Converts JDBC date-time values without text parsing")
+    void convertsDateTimeValues() {
+        LocalDateTime dateTime = LocalDateTime.of(2022, 9, 1, 10, 15, 30);
+        OffsetDateTime offsetDateTime = dateTime.atOffset(ZoneOffset.ofHours(2));
+
+        assertThat(LocalDateTypeConverter.INSTANCE.convertToEntityAttribute(Date.valueOf(dateTime.toLocalDate())))
+                .isEqualTo(LocalDate.of(2022, 9, 1));
+        assertThat(LocalTimeTypeConverter.INSTANCE.convertToEntityAttribute(Time.valueOf(LocalTime.of(10, 15, 30))))
+                .isEqualTo(LocalTime.of(10, 15, 30));
+        assertThat(LocalTimeTypeConverter.INSTANCE.convertToEntityAttribute(Timestamp.valueOf(dateTime)))
+                .isEqualTo(LocalTime.of(10, 15, 30));
+        assertThat(LocalDateTimeTypeConverter.INSTANCE.convertToEntityAttribute(Timestamp.valueOf(dateTime)))
+                .isEqualTo(dateTime);
+        assertThat(ZonedDateTimeTypeConverter.INSTANCE.convertToEntityAttribute(offsetDateTime))
+                .isEqualTo(offsetDateTime.toZonedDateTime());
+        assertThat(ZonedDateTimeTypeConverter.INSTANCE.convertToDatabaseColumn(offsetDateTime.toZonedDateTime()))
+                .isEqualTo(offsetDateTime);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Dates {
+        @Convert(LocalDateTypeConverter.class)
+        private LocalDate localDate;
+
+        @Convert(LocalDateTypeConverter.class)
+        private String mismatched;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bobocode.bibernate.id;
+
+import com.bobocode.bibernate.annotation.SequenceOptimizer;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequenceIdGeneratorTest {
+
+    @Test
+    @DisplayName("Pooled optimizer hands out ids starting from sequence value and calls sequence once per block")
+    void generatesPooledIds() {
+        AtomicLong sequence = new AtomicLong(1);
+        AtomicLong calls = new AtomicLong();
+        LongSupplier nextValue = () -> {
+            calls.incrementAndGet();
+            return sequence.getAndAdd(3);
+        };
+        SequenceIdGenerator generator = new SequenceIdGenerator("s", 3, SequenceOptimizer.POOLED, Long.class);
+
+        List<Object> ids = Stream.generate(() -> generator.generate(nextValue)).limit(7).toList();
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Hi-lo optimizer multiplies sequence value by allocation size")
+    void generatesHiLoIds() {
+        AtomicLong sequence = new AtomicLong(1);
+        SequenceIdGenerator generator = new SequenceIdGenerator("s", 10, SequenceOptimizer.HILO, Integer.class);
+
+        List<Object> ids = Stream.generate(() -> generator.generate(sequence::getAndIncrement)).limit(12).toList();
+
+        assertThat(ids).startsWith(10, 11).endsWith(19, 20, 21);
+    }
+
+    @Test
+    @DisplayName("Generates unique ids when used by several threads")
+    void generatesUniqueIdsConcurrently() {
+        AtomicLong sequence = new AtomicLong(1);
+        SequenceIdGenerator generator = new SequenceIdGenerator("s", 50, SequenceOptimizer.POOLED, Long.class);
+        Set<Object> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> ids.add(generator.generate(() -> sequence.getAndAdd(50))));
+
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when id type cannot be generated")
+    void throwsExceptionOnUnsupportedIdType() {
+        assertThatThrownBy(() -> new SequenceIdGenerator("s", 50, SequenceOptimizer.POOLED, String.class))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage("Generated id must be of Long or Integer type, but was java.lang.String");
+    }
+}
@@ -0,0 +1,54 @@
+package com.bobocode.bibernate.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 0x0192_3456_789AL;
+
+    @Test
+    @DisplayName("Generates version 7 UUID with Unix millisecond timestamp in the most significant bits")
+    void generatesVersion7Uuid() {
+        UUID uuid = new UuidV7Generator(() -> NOW).generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Generates increasing UUIDs within the same millisecond and when the clock goes back")
+    void generatesIncreasingUuids() {
+        long[] clock = {NOW};
+        UuidV7Generator generator = new UuidV7Generator(() -> clock[0]);
+
+        List<UUID> uuids = Stream.generate(() -> {
+            clock[0] -= 1;
+            return generator.generate();
+        }).limit(5000).toList();
+
+        assertThat(uuids).isSorted().doesNotHaveDuplicates();
+        assertThat(uuids).allSatisfy(uuid -> assertThat(uuid.version()).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("Generates unique UUIDs when used by several threads")
+    void generatesUniqueUuidsConcurrently() {
+        UuidV7Generator generator = new UuidV7Generator(System::currentTimeMillis);
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> uuids.add(generator.generate()));
+
+        assertThat(uuids).hasSize(100_000);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bobocode.bibernate.integration;
+
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.integration.entity.Person;
+import com.bobocode.bibernate.session.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class H2BatchIntegrationTest extends BaseH2Integration {
+
+    @Override
+    @BeforeEach
+    void init() {
+        this.persistenceUnitName = "h2-batch-integration-test";
+        super.init();
+    }
+
+    @Test
+    @DisplayName("Inserts, updates and deletes entities in batches")
+    void executesActionsInBatches() {
+        List<Person> persons = LongStream.rangeClosed(100, 106)
+                .mapToObj(id -> new Person().id(id).name("Hobbit " + id).age((int) id))
+                .toList();
+
+        persons.forEach(session::save);
+        session.flush();
+        persons.forEach(person -> person.age(person.age() + 1));
+        session.flush();
+        session.delete(persons.get(0));
+        session.flush();
+
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(otherSession.find(Person.class, 100L)).isEmpty();
+            assertThat(LongStream.rangeClosed(101, 106).mapToObj(id -> otherSession.find(Person.class, id)))
+                    .allSatisfy(person -> assertThat(person).isPresent()
+                            .hasValueSatisfying(p -> assertThat(p.age()).isEqualTo(p.id().intValue() + 1)));
+        }
+    }
+
+    @Test
+    @DisplayName("Throws BibernateException when batched statement does not affect a row")
+    void throwsExceptionOnUnexpectedRowCount() {
+        List<Person> persons = LongStream.rangeClosed(200, 201)
+                .mapToObj(id -> new Person().id(id).name("Hobbit " + id).age(1))
+                .toList();
+        persons.forEach(session::save);
+        session.flush();
+
+        try (Session otherSession = sessionFactory.openSession()) {
+            otherSession.delete(otherSession.find(Person.class, 201L).orElseThrow());
+        }
+        persons.forEach(session::delete);
+
+        assertThatThrownBy(() -> session.flush())
+                .isInstanceOf(BibernateException.class)
+                .hasMessageContaining("Unexpected row count 0");
+    }
+
+    @Test
+    @DisplayName("Upserts new and existing entities without loading them")
+    void upsertsEntities() {
+        session.save(new Person().id(300L).name("Frodo").age(50));
+        session.flush();
+        List<Person> persons = List.of(new Person().id(300L).name("Frodo Baggins").age(51),
+                new Person().id(301L).name("Sam").age(38));
+
+        session.upsertAll(persons);
+        session.flush();
+
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(otherSession.find(Person.class, 300L)).contains(persons.get(0));
+            assertThat(otherSession.find(Person.class, 301L)).contains(persons.get(1));
+        }
+        assertThat(session.contains(persons.get(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Upserts state of detached entity into the managed one with the same id")
+    void upsertsIntoManagedEntity() {
+        Person managedPerson = new Person().id(400L).name("Merry").age(36);
+        session.save(managedPerson);
+        session.flush();
+
+        session.upsert(new Person().id(400L).name("Meriadoc").age(37));
+        session.flush();
+
+        assertThat(managedPerson).isEqualTo(new Person().id(400L).name("Meriadoc").age(37));
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(otherSession.find(Person.class, 400L)).contains(managedPerson);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobocode.bibernate.integration;
+
+import com.bobocode.bibernate.integration.entity.Event;
+import com.bobocode.bibernate.integration.entity.Invoice;
+import com.bobocode.bibernate.integration.entity.Order;
+import com.bobocode.bibernate.session.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class H2GeneratedIdIntegrationTest extends BaseH2Integration {
+
+    @Override
+    @BeforeEach
+    void init() {
+        this.persistenceUnitName = "h2-generated-id-integration-test";
+        super.init();
+    }
+
+    @Test
+    @DisplayName("Assigns ids from blocks reserved with sequence calls before inserts are flushed")
+    void assignsSequenceIds() {
+        List<Invoice> invoices = IntStream.range(0, 12)
+                .mapToObj(i -> new Invoice().number("INV-" + i))
+                .toList();
+
+        invoices.forEach(session::save);
+        long firstId = invoices.get(0).id();
+
+        assertThat(invoices).extracting(Invoice::id)
+                .containsExactlyElementsOf(LongStream.range(firstId, firstId + 12).boxed().toList());
+        assertThat(firstId % 5).isEqualTo(1);
+        session.flush();
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(invoices).allSatisfy(invoice ->
+                    assertThat(otherSession.find(Invoice.class, invoice.id())).contains(invoice));
+        }
+    }
+
+    @Test
+    @DisplayName("Keeps assigned id of an entity with generated id")
+    void keepsAssignedSequenceId() {
+        Invoice invoice = new Invoice().id(1_000_000L).number("INV-manual");
+
+        session.save(invoice);
+        session.flush();
+
+        assertThat(invoice.id()).isEqualTo(1_000_000L);
+        assertThat(session.find(Invoice.class, 1_000_000L)).containsSame(invoice);
+    }
+
+    @Test
+    @DisplayName("Sets id generated by identity column on flush")
+    void setsIdentityIds() {
+        Order first = new Order().description("first");
+        Order second = new Order().description("second");
+
+        session.save(first);
+        session.save(second);
+        assertThat(first.id()).isNull();
+        session.flush();
+
+        assertThat(second.id()).isGreaterThan(first.id());
+        assertThat(session.find(Order.class, first.id())).containsSame(first);
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(otherSession.find(Order.class, second.id())).contains(second);
+        }
+    }
+
+    @Test
+    @DisplayName("Assigns time-ordered UUIDs before inserts are flushed")
+    void assignsUuids() {
+        List<Event> events = IntStream.range(0, 10)
+                .mapToObj(i -> new Event().name("event " + i))
+                .toList();
+
+        events.forEach(session::save);
+
+        assertThat(events).extracting(Event::id)
+                .allSatisfy(id -> assertThat(id.version()).isEqualTo(7))
+                .isSorted();
+        session.flush();
+        try (Session otherSession = sessionFactory.openSession()) {
+            UUID lastId = events.get(9).id();
+            assertThat(otherSession.find(Event.class, lastId)).contains(events.get(9));
+        }
+    }
+}
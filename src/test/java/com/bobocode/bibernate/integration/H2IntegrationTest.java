@@ -1,6 +1,15 @@
 package com.bobocode.bibernate.integration;
 
 import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.ProductPrice;
+import com.bobocode.bibernate.integration.entity.ProductSummary;
+import com.bobocode.bibernate.integration.entity.TrackedProduct;
+import com.bobocode.bibernate.query.Aggregate;
+import com.bobocode.bibernate.query.Criteria;
+import com.bobocode.bibernate.session.Paginator;
+import com.bobocode.bibernate.session.ReadAheadPaginator;
+import com.bobocode.bibernate.session.Session;
+import com.bobocode.bibernate.session.StreamOptions;
 import com.bobocode.bibernate.session.entity.EntityClass;
 import com.bobocode.bibernate.session.entity.NotEntityClass;
 import org.assertj.core.api.ThrowableAssert;
@@ -8,10 +17,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -62,6 +75,218 @@ class H2IntegrationTest extends BaseH2Integration {
         assertThat(products).containsAll(expectedProducts);
     }
 
+    @Test
+    @DisplayName("Projects records selected by properties into record without putting entities in persistence context")
+    void projectRecordsByProperties() {
+        List<ProductSummary> summaries = session.project(Product.class, ProductSummary.class, Map.of("price", 5.0));
+
+        assertThat(summaries).containsOnly(new ProductSummary(3L, "knife"));
+        assertThat(session.contains(new Product().id(3L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Gets records by criteria")
+    void getRecordsByCriteria() {
+        Criteria<Product> criteria = Criteria.of(Product.class)
+                .gt("price", 1.0)
+                .in("name", List.of("knife", "spoon", "scissors"))
+                .orderByDesc("price")
+                .limit(1);
+
+        List<Product> products = session.findAll(criteria);
+
+        assertThat(products).containsExactly(new Product().id(3L).name("knife").price(5.0));
+    }
+
+    @Test
+    @DisplayName("Projects records by criteria")
+    void projectRecordsByCriteria() {
+        List<ProductSummary> summaries = session.project(Criteria.of(Product.class).eq("id", 1L).isNotNull("name"),
+                ProductSummary.class);
+
+        assertThat(summaries).containsExactly(new ProductSummary(1L, "scissors"));
+    }
+
+    @Test
+    @DisplayName("Counts records and checks their existence without loading them")
+    void countAndExists() {
+        assertThat(session.count(Criteria.of(Product.class).eq("name", "rope"))).isPositive();
+        assertThat(session.count(Criteria.of(Product.class).eq("name", "hammer"))).isZero();
+        assertThat(session.exists(Criteria.of(Product.class).gt("price", 5.0))).isTrue();
+        assertThat(session.exists(Criteria.of(Product.class).gt("price", 100.0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Computes aggregates of an attribute")
+    void aggregate() {
+        Criteria<Product> criteria = Criteria.of(Product.class).in("name", List.of("scissors", "knife"));
+
+        assertThat(session.aggregate(criteria, Aggregate.MIN, "price", Double.class)).contains(1.0);
+        assertThat(session.aggregate(criteria, Aggregate.MAX, "name", String.class)).contains("scissors");
+        assertThat(session.aggregate(criteria, Aggregate.AVG, "price", double.class)).contains(3.0);
+        assertThat(session.aggregate(Criteria.of(Product.class).eq("name", "hammer"), Aggregate.SUM, "price",
+                Double.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Updates records by criteria with a single statement evicting managed entities")
+    void updateWhere() {
+        Product managedProduct = session.find(Product.class, 1L).orElseThrow();
+        managedProduct.price(2.0);
+
+        int rowCount = session.updateWhere(Criteria.of(Product.class).lt("price", 3.0), Map.of("name", "cheap"));
+
+        assertThat(rowCount).isPositive();
+        assertThat(session.contains(managedProduct)).isFalse();
+        assertThat(session.find(Product.class, 1L)).contains(new Product().id(1L).name("cheap").price(2.0));
+    }
+
+    @Test
+    @DisplayName("Deletes records by criteria with a single statement evicting managed entities")
+    void deleteWhere() {
+        Product managedProduct = session.find(Product.class, 2L).orElseThrow();
+
+        int rowCount = session.deleteWhere(Criteria.of(Product.class).eq("name", "rope"));
+
+        assertThat(rowCount).isPositive();
+        assertThat(session.contains(managedProduct)).isFalse();
+        assertThat(session.exists(Criteria.of(Product.class).eq("name", "rope"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Gets records by native query with named parameters putting them in persistence context")
+    void getRecordsByNativeQuery() {
+        Product cachedProduct = session.find(Product.class, 3L).orElseThrow();
+
+        List<Product> products = session.createNativeQuery(
+                        "select * from products where name in (:first, :second) order by id", Product.class)
+                .setParameter("first", "scissors")
+                .setParameter("second", "knife")
+                .setManaged(true)
+                .getResultList();
+
+        assertThat(products).containsExactly(new Product().id(1L).name("scissors").price(1.0), cachedProduct);
+        assertThat(products.get(1)).isSameAs(cachedProduct);
+        assertThat(session.contains(products.get(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Maps native query results to records and single column values")
+    void mapNativeQueryResults() {
+        List<ProductPrice> prices = session.createNativeQuery(
+                        "select name, price * ? as total from products where id = ?", ProductPrice.class)
+                .setParameter(1, 2)
+                .setParameter(2, 3L)
+                .getResultList();
+        Optional<String> name = session.createNativeQuery("select name from products where id = :id", String.class)
+                .setParameter("id", 1L)
+                .getSingleResult();
+
+        assertThat(prices).containsExactly(new ProductPrice("knife", 10.0));
+        assertThat(name).contains("scissors");
+    }
+
+    @Test
+    @DisplayName("Streams records putting them in persistence context")
+    void streamRecords() {
+        Product cachedProduct = session.find(Product.class, 2L).orElseThrow();
+
+        List<Product> products;
+        try (Stream<Product> stream = session.stream(Product.class, StreamOptions.DEFAULT.withFetchSize(1))) {
+            products = stream.toList();
+        }
+
+        assertThat(products).containsExactlyInAnyOrder(
+                new Product().id(1L).name("scissors").price(1.0),
+                new Product().id(2L).name("rope").price(10.0),
+                new Product().id(3L).name("knife").price(5.0));
+        assertThat(products).anySatisfy(product -> assertThat(product).isSameAs(cachedProduct));
+        assertThat(products).allMatch(session::contains);
+    }
+
+    @Test
+    @DisplayName("Streams records by properties without putting them in persistence context")
+    void streamUnmanagedRecordsByProperties() {
+        List<Product> products;
+        try (Stream<Product> stream = session.stream(Product.class, Map.of("name", "rope"),
+                StreamOptions.DEFAULT.unmanaged())) {
+            products = stream.toList();
+        }
+
+        assertThat(products).containsExactly(new Product().id(2L).name("rope").price(10.0));
+        assertThat(session.contains(products.get(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Gets page of records after provided id")
+    void getPageAfterId() {
+        List<Product> firstPage = session.findPage(Product.class, null, 2);
+        List<Product> secondPage = session.findPage(Product.class, 2L, 2);
+
+        assertThat(firstPage).extracting(Product::id).containsExactly(1L, 2L);
+        assertThat(secondPage).containsExactly(new Product().id(3L).name("knife").price(5.0));
+    }
+
+    @Test
+    @DisplayName("Paginates records by composite sort key")
+    void paginateByCompositeKey() {
+        Paginator<Product> paginator = session.paginate(Product.class, List.of("price"), 2);
+
+        List<List<Product>> pages = new ArrayList<>();
+        paginator.forEachRemaining(pages::add);
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0)).extracting(Product::name).containsExactly("scissors", "knife");
+        assertThat(pages.get(1)).extracting(Product::name).containsExactly("rope");
+        assertThat(paginator.getAfterKey()).containsExactly(10.0, 2L);
+        assertThat(session.findPage(Product.class, List.of("price"), List.of(1.0, 1L), 1))
+                .extracting(Product::name)
+                .containsExactly("knife");
+    }
+
+    @Test
+    @DisplayName("Rejects page after key containing null value")
+    void rejectPageAfterNullKey() {
+        List<Object> afterKey = Arrays.asList(null, 1L);
+
+        assertThatThrownBy(() -> session.findPage(Product.class, List.of("price"), afterKey, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[afterKey] argument must not contain null values");
+    }
+
+    @Test
+    @DisplayName("Paginates records reading pages ahead on a separate connection")
+    void paginateWithReadAhead() {
+        List<List<Product>> pages = new ArrayList<>();
+        try (ReadAheadPaginator<Product> paginator = session.paginate(Product.class, List.of("price"), 2, 2)) {
+            paginator.forEachRemaining(pages::add);
+        }
+        List<Product> products = pages.stream()
+                .flatMap(List::stream)
+                .toList();
+
+        assertThat(pages.subList(0, pages.size() - 1)).allMatch(page -> page.size() == 2);
+        assertThat(products).extracting(Product::name).contains("scissors", "knife", "rope");
+        assertThat(products).extracting(Product::id).doesNotHaveDuplicates();
+        assertThat(products).isSortedAccordingTo(Comparator.comparing((Product product) -> product.price()).thenComparing(product -> product.id()));
+        assertThat(session.contains(pages.get(0).get(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Gets records by ids using persistence context first")
+    void getRecordsByIds() {
+        Product cachedProduct = session.find(Product.class, 2L).orElseThrow();
+
+        List<Product> products = session.findAllById(Product.class, List.of(3L, 2L, 1000L, 1L, 3L));
+
+        assertThat(products).containsExactly(
+                new Product().id(3L).name("knife").price(5.0),
+                new Product().id(2L).name("rope").price(10.0),
+                new Product().id(1L).name("scissors").price(1.0));
+        assertThat(products.get(1)).isSameAs(cachedProduct);
+        assertThat(session.find(Product.class, 3L)).containsSame(products.get(0));
+    }
+
     @Test
     @DisplayName("Gets all records bounded by limit and offset")
     void getAllRecordsByIdWithLimitAndOffset() {
@@ -92,6 +317,25 @@ class H2IntegrationTest extends BaseH2Integration {
                 .hasValue(newProductName);
     }
 
+    @Test
+    @DisplayName("Updates self-tracking entities changed by setters or merge on flush")
+    void updatesSelfTrackingEntities() {
+        TrackedProduct changedProduct = session.find(TrackedProduct.class, 3L).orElseThrow();
+        TrackedProduct detachedProduct = session.find(TrackedProduct.class, 2L).orElseThrow();
+        session.detach(detachedProduct);
+        changedProduct.price(7.5);
+
+        session.merge(detachedProduct.name("long rope"));
+        session.flush();
+
+        try (Session otherSession = sessionFactory.openSession()) {
+            assertThat(otherSession.find(TrackedProduct.class, 3L)).hasValueSatisfying(product ->
+                    assertThat(product.price()).isEqualTo(7.5));
+            assertThat(otherSession.find(TrackedProduct.class, 2L)).hasValueSatisfying(product ->
+                    assertThat(product.name()).isEqualTo("long rope"));
+        }
+    }
+
     @Test
     void delete() {
         Optional<Product> product = session.find(Product.class, 2L);
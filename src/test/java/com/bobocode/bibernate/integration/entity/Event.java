@@ -0,0 +1,27 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.UUID;
+
+@Table("events")
+@Data
+@Entity
+@Accessors(fluent = true)
+public class Event {
+
+    @Id
+    @Column("id")
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column("name")
+    private String name;
+}
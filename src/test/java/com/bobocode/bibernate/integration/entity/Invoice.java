@@ -0,0 +1,25 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Table("invoices")
+@Data
+@Entity
+@Accessors(fluent = true)
+public class Invoice {
+
+    @Id
+    @Column("id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, allocationSize = 5)
+    private Long id;
+
+    @Column("number")
+    private String number;
+}
@@ -0,0 +1,25 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.GeneratedValue;
+import com.bobocode.bibernate.annotation.GenerationType;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Table("orders")
+@Data
+@Entity
+@Accessors(fluent = true)
+public class Order {
+
+    @Id
+    @Column("id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column("description")
+    private String description;
+}
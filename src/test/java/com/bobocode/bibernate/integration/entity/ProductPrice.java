@@ -0,0 +1,6 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+
+public record ProductPrice(String name, @Column("total") double price) {
+}
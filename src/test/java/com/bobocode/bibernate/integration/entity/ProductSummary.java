@@ -0,0 +1,6 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+
+public record ProductSummary(Long id, @Column("name") String title) {
+}
@@ -0,0 +1,46 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Convert;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import com.bobocode.bibernate.converter.AttributeConverter;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Table("tickets")
+@Data
+@Entity
+@Accessors(fluent = true)
+public class Ticket {
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("status")
+    @Convert(StatusConverter.class)
+    private Status status;
+
+    public enum Status {
+        OPEN, CLOSED
+    }
+
+    public static class StatusConverter implements AttributeConverter<Status> {
+
+        @Override
+        public Status convertToEntityAttribute(Object dbData) {
+            return "O".equals(dbData) ? Status.OPEN : Status.CLOSED;
+        }
+
+        @Override
+        public Object convertToDatabaseColumn(Status attribute) {
+            return attribute == null ? null : attribute.name().substring(0, 1);
+        }
+
+        @Override
+        public boolean isConvertable(Object value) {
+            return value instanceof String;
+        }
+    }
+}
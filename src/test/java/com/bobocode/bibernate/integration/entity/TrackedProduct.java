@@ -0,0 +1,47 @@
+package com.bobocode.bibernate.integration.entity;
+
+import com.bobocode.bibernate.annotation.Column;
+import com.bobocode.bibernate.annotation.Entity;
+import com.bobocode.bibernate.annotation.Id;
+import com.bobocode.bibernate.annotation.Table;
+import com.bobocode.bibernate.tracking.DirtyTrackingEntity;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Table("products")
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+@Entity
+@Accessors(fluent = true)
+public class TrackedProduct extends DirtyTrackingEntity {
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("name")
+    private String name;
+
+    @Column("price")
+    private Double price;
+
+    public TrackedProduct id(Long id) {
+        this.id = id;
+        markDirty();
+        return this;
+    }
+
+    public TrackedProduct name(String name) {
+        this.name = name;
+        markDirty();
+        return this;
+    }
+
+    public TrackedProduct price(Double price) {
+        this.price = price;
+        markDirty();
+        return this;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.session.entity.NotEntityClass;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityMetadataRegistryTest {
+
+    private EntityMetadataRegistry metadataRegistry;
+
+    @BeforeEach
+    void setUp() {
+        metadataRegistry = new EntityMetadataRegistry();
+    }
+
+    @Test
+    @DisplayName("Builds metadata from entity mapping annotations")
+    void buildsMetadata() {
+        EntityMetadata<Product> metadata = metadataRegistry.getMetadata(Product.class);
+
+        assertThat(metadata.getTableName()).isEqualTo("products");
+        assertThat(metadata.getIdAttribute().getColumnName()).isEqualTo("id");
+        assertThat(metadata.getAttributes())
+                .extracting(EntityAttribute::getColumnName)
+                .containsExactly("id", "name", "price");
+    }
+
+    @Test
+    @DisplayName("Generates CRUD statements once with columns in attribute order")
+    void generatesQueries() {
+        EntityQueries queries = metadataRegistry.getMetadata(Product.class).getQueries();
+
+        assertThat(queries.insert()).isEqualTo("insert into products (id, name, price) values (?, ?, ?)");
+        assertThat(queries.selectById()).isEqualTo("select * from products where id = ?");
+        assertThat(queries.selectAll()).isEqualTo("select * from products");
+        assertThat(queries.updateById()).isEqualTo("update products set name = ?, price = ? where id = ?");
+        assertThat(queries.deleteById()).isEqualTo("delete from products where id = ?");
+    }
+
+    @Test
+    @DisplayName("Returns the same metadata instance for subsequent calls")
+    void cachesMetadata() {
+        EntityMetadata<Product> metadata = metadataRegistry.getMetadata(Product.class);
+
+        assertThat(metadataRegistry.getMetadata(Product.class)).isSameAs(metadata);
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when class is not defined as entity")
+    void throwsEntityMappingExceptionWhenClassIsNotEntity() {
+        assertThatThrownBy(() -> metadataRegistry.getMetadata(NotEntityClass.class))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage(NotEntityClass.class.getName() + " is not defined as entity");
+    }
+
+    @Test
+    @DisplayName("Reads and writes attribute values")
+    void readsAndWritesAttributeValues() {
+        EntityMetadata<Product> metadata = metadataRegistry.getMetadata(Product.class);
+        Product product = metadata.newInstance();
+
+        metadata.getIdAttribute().setValue(product, 5L);
+
+        assertThat(product.id()).isEqualTo(5L);
+        assertThat(metadata.getIdValue(product)).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntityRowMapperTest {
+
+    private final EntityMetadataRegistry metadataRegistry = new EntityMetadataRegistry();
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ResultSetMetaData resultSetMetaData;
+
+    @Test
+    @DisplayName("Maps current row to entity reading columns by index with typed getters")
+    void mapsRow() throws SQLException {
+        mockColumns("CREATED_AT", "PRICE", "NAME", "ID");
+        when(resultSet.getLong(4)).thenReturn(1L);
+        when(resultSet.getString(3)).thenReturn("scissors");
+        when(resultSet.getDouble(2)).thenReturn(1.0);
+
+        Product product = metadataRegistry.getMetadata(Product.class).getRowMapper(resultSet).mapRow(resultSet);
+
+        assertThat(product).isEqualTo(new Product().id(1L).name("scissors").price(1.0));
+        verify(resultSet, never()).getObject(anyString());
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
+    @Test
+    @DisplayName("Maps SQL NULL of a numeric column to null wrapper value")
+    void mapsNullWrapperValue() throws SQLException {
+        mockColumns("id", "name", "price");
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(resultSet.getDouble(3)).thenReturn(0.0);
+        when(resultSet.wasNull()).thenReturn(false, true);
+
+        Product product = metadataRegistry.getMetadata(Product.class).getRowMapper(resultSet).mapRow(resultSet);
+
+        assertThat(product).isEqualTo(new Product().id(1L));
+    }
+
+    @Test
+    @DisplayName("Reads and binds attribute with converter specified by @Convert")
+    void convertsAttribute() throws SQLException {
+        mockColumns("id", "status");
+        when(resultSet.getLong(1)).thenReturn(3L);
+        when(resultSet.getObject(2)).thenReturn("C");
+        PreparedStatement statement = mock(PreparedStatement.class);
+        EntityMetadata<Ticket> metadata = metadataRegistry.getMetadata(Ticket.class);
+
+        Ticket ticket = metadata.getRowMapper(resultSet).mapRow(resultSet);
+        metadata.bindInsertParameters(statement, 1, ticket);
+
+        assertThat(ticket).isEqualTo(new Ticket().id(3L).status(Ticket.Status.CLOSED));
+        verify(statement).setLong(1, 3L);
+        verify(statement).setObject(2, "C");
+    }
+
+    @Test
+    @DisplayName("Creates row mapper once per column layout")
+    void cachesRowMapper() throws SQLException {
+        mockColumns("id", "name", "price");
+        EntityMetadata<Product> metadata = metadataRegistry.getMetadata(Product.class);
+
+        assertThat(metadata.getRowMapper(resultSet)).isSameAs(metadata.getRowMapper(resultSet));
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when result set has no column of an attribute")
+    void throwsExceptionWhenColumnIsMissing() throws SQLException {
+        mockColumns("id", "name");
+        EntityMetadata<Product> metadata = metadataRegistry.getMetadata(Product.class);
+
+        assertThatThrownBy(() -> metadata.getRowMapper(resultSet))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage("Column 'price' of entity %s is not found in result set", Product.class.getName());
+    }
+
+    private void mockColumns(String... labels) throws SQLException {
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(resultSetMetaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bobocode.bibernate.metadata;
+
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.ProductSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionMapperTest {
+
+    private final EntityMetadata<Product> metadata = new EntityMetadataRegistry().getMetadata(Product.class);
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    @DisplayName("Selects only columns of record components")
+    void createsSelectQuery() {
+        ProjectionMapper<ProductSummary> mapper = metadata.getProjectionMapper(ProductSummary.class);
+
+        assertThat(mapper.getSelectQuery()).isEqualTo("select id, name from products");
+        assertThat(mapper.getAttributes()).extracting(EntityAttribute::getName).containsExactly("id", "name");
+    }
+
+    @Test
+    @DisplayName("Maps current row to record through canonical constructor reading columns by index")
+    void mapsRow() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(3L);
+        when(resultSet.getString(2)).thenReturn("knife");
+
+        ProductSummary summary = metadata.getProjectionMapper(ProductSummary.class).mapRow(resultSet);
+
+        assertThat(summary).isEqualTo(new ProductSummary(3L, "knife"));
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
+    @Test
+    @DisplayName("Creates projection mapper once per record type")
+    void cachesProjectionMapper() {
+        assertThat(metadata.getProjectionMapper(ProductSummary.class))
+                .isSameAs(metadata.getProjectionMapper(ProductSummary.class));
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when projection is not a record")
+    void throwsExceptionWhenProjectionIsNotRecord() {
+        assertThatThrownBy(() -> metadata.getProjectionMapper(String.class))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage("Projection java.lang.String must be a record");
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when record component does not match any attribute")
+    void throwsExceptionWhenComponentIsUnmatched() {
+        assertThatThrownBy(() -> metadata.getProjectionMapper(ProductWeight.class))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage("Component 'weight' of projection %s does not match any attribute of entity %s",
+                        ProductWeight.class.getName(), Product.class.getName());
+    }
+
+    record ProductWeight(Long id, double weight) {
+    }
+}
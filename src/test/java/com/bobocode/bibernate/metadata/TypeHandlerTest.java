@@ -0,0 +1,78 @@
+package com.bobocode.bibernate.metadata;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TypeHandlerTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    @DisplayName("Binds null wrapper value with setNull and non-null value with typed setter")
+    void bindsWrapperValues() throws SQLException {
+        TypeHandler handler = TypeHandler.forType(Long.class);
+
+        handler.bind(statement, 1, null);
+        handler.bind(statement, 2, 5L);
+
+        verify(statement).setNull(1, Types.BIGINT);
+        verify(statement).setLong(2, 5L);
+    }
+
+    @Test
+    @DisplayName("Reads SQL NULL as null for wrapper type and as default value for primitive type")
+    void readsNullValues() throws SQLException {
+        when(resultSet.wasNull()).thenReturn(true);
+
+        assertThat(TypeHandler.forType(Integer.class).read(resultSet, 1)).isNull();
+        assertThat(TypeHandler.forType(int.class).read(resultSet, 1)).isEqualTo(0);
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
+    @Test
+    @DisplayName("Reads java.time values with getObject of the requested type")
+    void readsTemporalValues() throws SQLException {
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2022, 9, 1, 10, 0, 0, 0, ZoneOffset.ofHours(2));
+        when(resultSet.getObject(1, LocalDate.class)).thenReturn(LocalDate.of(2022, 9, 1));
+        when(resultSet.getObject(2, OffsetDateTime.class)).thenReturn(offsetDateTime);
+
+        assertThat(TypeHandler.forType(LocalDate.class).read(resultSet, 1)).isEqualTo(LocalDate.of(2022, 9, 1));
+        assertThat(TypeHandler.forType(ZonedDateTime.class).read(resultSet, 2))
+                .isEqualTo(offsetDateTime.toZonedDateTime());
+    }
+
+    @Test
+    @DisplayName("Creates object handler of type without typed JDBC methods once")
+    void reusesObjectHandler() throws SQLException {
+        UUID value = UUID.randomUUID();
+        when(resultSet.getObject(1)).thenReturn(value);
+        TypeHandler handler = TypeHandler.forType(UUID.class);
+
+        assertThat(TypeHandler.forType(UUID.class)).isSameAs(handler);
+        assertThat(handler.read(resultSet, 1)).isEqualTo(value);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.configuration.dialects.H2Dialect;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NativeQueryPlanTest {
+
+    private final QueryPlanCache queryPlanCache = new QueryPlanCache(new EntityMetadataRegistry(), new H2Dialect());
+
+    @Test
+    @DisplayName("Replaces named parameters outside of literals, comments and casts with placeholders")
+    void parsesNamedParameters() {
+        NativeQueryPlan plan = queryPlanCache.getNativeQueryPlan("select p.*, ':skip' as \"a:b\" from products p "
+                + "-- :comment\nwhere p.price::int > :minPrice /* :block */ and p.name <> :name or p.price < :minPrice",
+                Product.class);
+
+        assertThat(plan.getSql()).isEqualTo("select p.*, ':skip' as \"a:b\" from products p -- :comment\n"
+                + "where p.price::int > ? /* :block */ and p.name <> ? or p.price < ?");
+        assertThat(plan.getParameterNames()).containsExactly("minPrice", "name");
+        assertThat(plan.getPositionalParameterCount()).isZero();
+        assertThat(plan.getMetadata().getType()).isEqualTo(Product.class);
+    }
+
+    @Test
+    @DisplayName("Caches plan per SQL and result type")
+    void cachesPlan() {
+        String sql = "select count(*) from products where price > ?";
+        NativeQueryPlan plan = queryPlanCache.getNativeQueryPlan(sql, Long.class);
+
+        assertThat(queryPlanCache.getNativeQueryPlan(sql, Long.class)).isSameAs(plan);
+        assertThat(queryPlanCache.getNativeQueryPlan(sql, Integer.class)).isNotSameAs(plan);
+        assertThat(plan.getPositionalParameterCount()).isEqualTo(1);
+        assertThat(plan.getMetadata()).isNull();
+    }
+
+    @Test
+    @DisplayName("Binds named parameter values to every placeholder of the parameter")
+    void bindsNamedParameters() throws SQLException {
+        NativeQueryPlan plan = queryPlanCache.getNativeQueryPlan(
+                "select * from products where price > :price or id = :id or price < :price", Product.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        plan.getParameterBinder(Map.of(), Map.of("price", 2.0, "id", 1L)).bind(statement, 1);
+
+        verify(statement).setDouble(1, 2.0);
+        verify(statement).setLong(2, 1L);
+        verify(statement).setDouble(3, 2.0);
+    }
+
+    @Test
+    @DisplayName("Binds positional parameter values with typed setters and null value with setObject")
+    void bindsPositionalParameters() throws SQLException {
+        NativeQueryPlan plan = queryPlanCache.getNativeQueryPlan(
+                "select * from products where name = ? or price > ? or id = ?", Product.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Map<Integer, Object> values = new HashMap<>();
+        values.put(1, "knife");
+        values.put(2, new BigDecimal("2.5"));
+        values.put(3, null);
+
+        plan.getParameterBinder(values, Map.of()).bind(statement, 1);
+
+        verify(statement).setString(1, "knife");
+        verify(statement).setBigDecimal(2, new BigDecimal("2.5"));
+        verify(statement).setObject(3, null);
+    }
+
+    @Test
+    @DisplayName("Throws BibernateException when parameter is not set")
+    void throwsExceptionWhenParameterIsNotSet() {
+        NativeQueryPlan plan = queryPlanCache.getNativeQueryPlan(
+                "select * from products where name = :name", Product.class);
+
+        assertThatThrownBy(() -> plan.getParameterBinder(Map.of(), Map.of()))
+                .isInstanceOf(BibernateException.class)
+                .hasMessage("Parameter 'name' of native query is not set");
+    }
+
+    @Test
+    @DisplayName("Throws IllegalArgumentException when query mixes positional and named parameters")
+    void throwsExceptionWhenParametersAreMixed() {
+        assertThatThrownBy(() -> queryPlanCache.getNativeQueryPlan(
+                "select * from products where name = :name and price > ?", Product.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Native query must not mix positional and named parameters");
+    }
+}
@@ -0,0 +1,157 @@
+package com.bobocode.bibernate.query;
+
+import com.bobocode.bibernate.configuration.dialects.H2Dialect;
+import com.bobocode.bibernate.exception.BibernateException;
+import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.integration.entity.Product;
+import com.bobocode.bibernate.integration.entity.ProductSummary;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class QueryPlanCacheTest {
+
+    private final QueryPlanCache queryPlanCache = new QueryPlanCache(new EntityMetadataRegistry(), new H2Dialect());
+
+    @Test
+    @DisplayName("Renders conditions, order and limit of criteria")
+    void compilesQuery() {
+        Criteria<Product> criteria = Criteria.of(Product.class)
+                .gt("price", 1.0)
+                .in("name", List.of("knife", "fork", "spoon"))
+                .isNotNull("name")
+                .orderByDesc("price")
+                .orderBy("id")
+                .limit(10)
+                .offset(5);
+
+        CompiledQuery compiledQuery = queryPlanCache.getCompiledQuery(criteria, null);
+
+        assertThat(compiledQuery.getSql()).isEqualTo("select * from products where price > ? AND name in (?, ?, ?, ?)"
+                + " AND name is not null order by price desc, id limit ? offset ?");
+    }
+
+    @Test
+    @DisplayName("Selects only projection columns")
+    void compilesProjectionQuery() {
+        CompiledQuery compiledQuery = queryPlanCache.getCompiledQuery(
+                Criteria.of(Product.class).eq("name", "knife"), ProductSummary.class);
+
+        assertThat(compiledQuery.getSql()).isEqualTo("select id, name from products where name = ?");
+        assertThat(compiledQuery.getProjectionMapper().getType()).isEqualTo(ProductSummary.class);
+    }
+
+    @Test
+    @DisplayName("Renders count, exists and aggregate queries ignoring order and limit")
+    void compilesScalarQueries() throws SQLException {
+        Criteria<Product> criteria = Criteria.of(Product.class).gt("price", 1.0).orderBy("price").limit(10);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        CompiledQuery countQuery = queryPlanCache.getCountQuery(criteria);
+        countQuery.getParameterBinder(criteria).bind(statement, 1);
+
+        assertThat(countQuery.getSql()).isEqualTo("select count(*) from products where price > ?");
+        assertThat(queryPlanCache.getExistsQuery(criteria).getSql())
+                .isEqualTo("select 1 from products where price > ? limit 1");
+        assertThat(queryPlanCache.getAggregateQuery(criteria, Aggregate.AVG, "price").getSql())
+                .isEqualTo("select avg(price) from products where price > ?");
+        verify(statement).setDouble(1, 1.0);
+        verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    @DisplayName("Renders bulk update binding new values before condition values")
+    void compilesUpdateQuery() throws SQLException {
+        Criteria<Product> criteria = Criteria.of(Product.class).lt("price", 2.0).orderBy("id").limit(1);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        CompiledQuery updateQuery = queryPlanCache.getUpdateQuery(criteria, List.of("name", "price"));
+        updateQuery.getParameterBinder(criteria, List.of("cheap", 1.5)).bind(statement, 1);
+
+        assertThat(updateQuery.getSql()).isEqualTo("update products set name = ?, price = ? where price < ?");
+        assertThat(queryPlanCache.getDeleteQuery(criteria).getSql()).isEqualTo("delete from products where price < ?");
+        verify(statement).setString(1, "cheap");
+        verify(statement).setDouble(2, 1.5);
+        verify(statement).setDouble(3, 2.0);
+        verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    @DisplayName("Throws IllegalArgumentException when bulk update changes id")
+    void throwsExceptionWhenIdIsUpdated() {
+        Criteria<Product> criteria = Criteria.of(Product.class);
+        List<String> attributes = List.of("id");
+
+        assertThatThrownBy(() -> queryPlanCache.getUpdateQuery(criteria, attributes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Id attribute 'id' cannot be updated");
+    }
+
+    @Test
+    @DisplayName("Shares compiled query between criteria of the same shape with different values")
+    void cachesQueryByShape() {
+        CompiledQuery compiledQuery = queryPlanCache.getCompiledQuery(
+                Criteria.of(Product.class).ge("price", 1.0).in("id", List.of(1L, 2L, 3L)).limit(2), null);
+
+        assertThat(queryPlanCache.getCompiledQuery(
+                Criteria.of(Product.class).ge("price", 7.0).in("id", List.of(4L, 5L, 6L, 7L)).limit(8), null))
+                .isSameAs(compiledQuery);
+        assertThat(queryPlanCache.getCompiledQuery(
+                Criteria.of(Product.class).ge("price", 7.0).in("id", List.of(4L, 5L)).limit(8), null))
+                .isNotSameAs(compiledQuery);
+        assertThat(queryPlanCache.getCompiledQuery(
+                Criteria.of(Product.class).ge("price", 7.0).in("id", List.of(4L, 5L, 6L)), null))
+                .isNotSameAs(compiledQuery);
+    }
+
+    @Test
+    @DisplayName("Binds values with typed setters padding IN list with the last value")
+    void bindsParameters() throws SQLException {
+        Criteria<Product> criteria = Criteria.of(Product.class)
+                .lt("price", 2.5)
+                .in("id", List.of(1L, 2L, 3L))
+                .limit(10);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        queryPlanCache.getCompiledQuery(criteria, null).getParameterBinder(criteria).bind(statement, 1);
+
+        var inOrder = inOrder(statement);
+        inOrder.verify(statement).setDouble(1, 2.5);
+        inOrder.verify(statement).setLong(2, 1L);
+        inOrder.verify(statement).setLong(3, 2L);
+        inOrder.verify(statement).setLong(4, 3L);
+        inOrder.verify(statement).setLong(5, 3L);
+        inOrder.verify(statement).setInt(6, 10);
+    }
+
+    @Test
+    @DisplayName("Throws EntityMappingException when criteria refers to unknown attribute")
+    void throwsExceptionWhenAttributeIsUnknown() {
+        Criteria<Product> criteria = Criteria.of(Product.class).eq("weight", 1);
+
+        assertThatThrownBy(() -> queryPlanCache.getCompiledQuery(criteria, null))
+                .isInstanceOf(EntityMappingException.class)
+                .hasMessage("Entity %s has no attribute 'weight'", Product.class.getName());
+    }
+
+    @Test
+    @DisplayName("Throws BibernateException when offset is set without limit")
+    void throwsExceptionWhenOffsetHasNoLimit() {
+        Criteria<Product> criteria = Criteria.of(Product.class).offset(1);
+
+        assertThatThrownBy(() -> queryPlanCache.getCompiledQuery(criteria, null))
+                .isInstanceOf(BibernateException.class)
+                .hasMessage("Offset of criteria requires limit");
+    }
+}
@@ -0,0 +1,99 @@
+package com.bobocode.bibernate.session;
+
+import com.bobocode.bibernate.exception.BibernateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadAheadPaginatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("Loads pages ahead of the caller up to read-ahead depth")
+    void readsPagesAhead() throws SQLException, InterruptedException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AtomicInteger loadedPages = new AtomicInteger();
+        CountDownLatch aheadLoaded = new CountDownLatch(3);
+        Paginator.PageLoader<Integer> pageLoader = (afterKey, limit) -> {
+            int from = afterKey == null ? 0 : (int) afterKey.get(0) + 1;
+            loadedPages.incrementAndGet();
+            aheadLoaded.countDown();
+            return from >= 10 ? List.of() : List.of(from, from + 1);
+        };
+
+        try (ReadAheadPaginator<Integer> paginator = new ReadAheadPaginator<>(dataSource,
+                persister -> new Paginator<>(pageLoader, page -> List.of(page), 2), 2, closed -> { })) {
+            assertThat(aheadLoaded.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(paginator.next()).containsExactly(0, 1);
+            assertThat(paginator.next()).containsExactly(2, 3);
+            assertThat(loadedPages.get()).isLessThanOrEqualTo(5);
+
+            assertThat(paginator.next()).containsExactly(4, 5);
+            assertThat(paginator.next()).containsExactly(6, 7);
+            assertThat(paginator.next()).containsExactly(8, 9);
+            assertThat(paginator.hasNext()).isFalse();
+            assertThat(paginator.getAfterKey()).containsExactly(9);
+        }
+        verify(connection, timeout(1000)).close();
+    }
+
+    @Test
+    @DisplayName("Rethrows failure of the background thread to the caller")
+    void rethrowsFailure() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("No connection"));
+
+        try (ReadAheadPaginator<Integer> paginator = new ReadAheadPaginator<>(dataSource,
+                persister -> new Paginator<>((afterKey, limit) -> List.of(), page -> List.of(page), 2), 1,
+                closed -> { })) {
+            assertThatThrownBy(paginator::hasNext)
+                    .isInstanceOf(BibernateException.class)
+                    .hasMessage("Failed to read ahead page")
+                    .hasRootCauseMessage("No connection");
+        }
+    }
+
+    @Test
+    @DisplayName("Stops loading pages and releases connection when closed")
+    void stopsLoadingWhenClosed() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AtomicInteger loadedPages = new AtomicInteger();
+        AtomicInteger closeCalls = new AtomicInteger();
+        ReadAheadPaginator<Integer> paginator = new ReadAheadPaginator<>(dataSource,
+                persister -> new Paginator<>((afterKey, limit) -> {
+                    loadedPages.incrementAndGet();
+                    return List.of(1, 2);
+                }, page -> List.of(page), 2), 1, closed -> closeCalls.incrementAndGet());
+
+        assertThat(paginator.next()).containsExactly(1, 2);
+        paginator.close();
+        paginator.close();
+
+        verify(connection, timeout(1000)).close();
+        int loadedWhenClosed = loadedPages.get();
+        assertThat(paginator.hasNext()).isFalse();
+        assertThat(loadedPages.get()).isEqualTo(loadedWhenClosed);
+        assertThat(closeCalls.get()).isEqualTo(1);
+    }
+}
@@ -1,24 +1,42 @@
 package com.bobocode.bibernate.session;
 
 import com.bobocode.bibernate.configuration.Dialect;
+import com.bobocode.bibernate.configuration.JdbcSettings;
+import com.bobocode.bibernate.exception.BibernateSQLException;
 import com.bobocode.bibernate.exception.EntityMappingException;
+import com.bobocode.bibernate.metadata.EntityMetadataRegistry;
 import com.bobocode.bibernate.session.entity.EntityClass;
 import com.bobocode.bibernate.session.entity.NotDefinedIdField;
 import com.bobocode.bibernate.session.entity.NotEntityClass;
 import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SessionValidationTest {
@@ -32,21 +50,106 @@ class SessionValidationTest {
     @Mock
     private Connection connection;
 
-    @InjectMocks
+    @Spy
+    private EntityMetadataRegistry metadataRegistry;
+
     private SessionImpl session;
 
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        session = new SessionImpl(dataSource, dialect, metadataRegistry, JdbcSettings.DEFAULT);
+    }
+
+    private void mockCursor() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("id");
+    }
+
     @Test
     @DisplayName("Throws NullPointerException when entity type is null")
     void throwsIllegalArgumentExceptionWhenEntityTypeIsNull() {
         List<ThrowableAssert.ThrowingCallable> findMethods = List.of(() -> session.find(null, 1L),
                 () -> session.findAll(null, 1, 0),
-                () -> session.findAll(null, Map.of("key", "value")));
+                () -> session.findAllById(null, List.of(1L)),
+                () -> session.findAll(null, Map.of("key", "value")),
+                () -> session.stream(null, StreamOptions.DEFAULT));
 
         findMethods.forEach(method -> assertThatThrownBy(method)
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("[type] argument must be not null"));
     }
 
+    @Test
+    @DisplayName("Restores auto-commit disabled for cursor of a streaming query when query fails")
+    void restoresAutoCommitWhenStreamingQueryFails() throws SQLException {
+        when(dialect.requiresTransactionForCursor()).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenThrow(new SQLException("failed"));
+        StreamOptions options = StreamOptions.DEFAULT.unmanaged();
+
+        assertThatThrownBy(() -> session.stream(EntityClass.class, options))
+                .isInstanceOf(BibernateSQLException.class);
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    @DisplayName("Restores auto-commit disabled for cursors when the last of nested streams is closed")
+    void restoresAutoCommitWhenLastNestedStreamIsClosed() throws SQLException {
+        when(dialect.requiresTransactionForCursor()).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        mockCursor();
+        StreamOptions options = StreamOptions.DEFAULT.unmanaged();
+
+        Stream<EntityClass> first = session.stream(EntityClass.class, options);
+        Stream<EntityClass> second = session.stream(EntityClass.class, options);
+        first.close();
+
+        verify(connection, never()).commit();
+        second.close();
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, times(1)).setAutoCommit(false);
+    }
+
+    @Test
+    @DisplayName("Restores auto-commit disabled for cursor when transaction begun while streaming is finished")
+    void restoresAutoCommitWhenTransactionBegunWhileStreamingIsFinished() throws SQLException {
+        when(dialect.requiresTransactionForCursor()).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+        mockCursor();
+
+        Stream<EntityClass> stream = session.stream(EntityClass.class, StreamOptions.DEFAULT.unmanaged());
+        session.begin();
+        stream.close();
+
+        verify(connection, never()).commit();
+        verify(connection, never()).setAutoCommit(true);
+        session.commit();
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    @DisplayName("Throws IllegalArgumentException when fetch size is negative")
+    void throwsIllegalArgumentExceptionWhenFetchSizeIsNegative() {
+        assertThatThrownBy(() -> StreamOptions.DEFAULT.withFetchSize(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[fetchSize] cannot be negative number");
+    }
+
     @Test
     @DisplayName("Throws IllegalArgumentException when limit is negative")
     void throwsIllegalArgumentExceptionWhenLimitIsNegative() {
@@ -84,6 +187,7 @@ class SessionValidationTest {
     void throwsEntityMappingExceptionWhenClassIsNotEntity() {
         List<ThrowableAssert.ThrowingCallable> findMethods = List.of(() -> session.find(NotEntityClass.class, 1L),
                 () -> session.findAll(NotEntityClass.class, 1, 0),
+                () -> session.findAllById(NotEntityClass.class, List.of(1L)),
                 () -> session.findAll(NotEntityClass.class, Map.of("key", "value")));
 
         findMethods.forEach(method -> assertThatThrownBy(method)
@@ -2,7 +2,10 @@ package com.bobocode.dialect;
 
 import com.bobocode.bibernate.configuration.PersistenceUnitProperties;
 import com.bobocode.parser.YamlPropertyParser;
+import com.bobocode.bibernate.configuration.JdbcSettings;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -50,6 +53,21 @@ class PersistenceUnitPropertiesTest {
         assertionPersistenceUnitProperties(persistenceUnitProperties);
     }
 
+    @Test
+    @DisplayName("Reads JDBC settings and uses defaults for not provided ones")
+    void readsJdbcSettings() {
+        var parser = new YamlPropertyParser();
+
+        var properties = new PersistenceUnitProperties(parser.readPropertiesForPersistenceUnit("h2"));
+        var defaultProperties = new PersistenceUnitProperties(
+                parser.readPropertiesForPersistenceUnit("h2-unprovided-dialect"));
+
+        assertEquals(32, properties.getJdbcSettings().statementCacheSize());
+        assertEquals(true, properties.getJdbcSettings().orderInserts());
+        assertEquals(false, properties.getJdbcSettings().orderUpdates());
+        assertEquals(JdbcSettings.DEFAULT, defaultProperties.getJdbcSettings());
+    }
+
     private void assertionPersistenceUnitProperties(PersistenceUnitProperties properties) {
         assertEquals(JDBC_URL, properties.getJdbcUrl());
         assertEquals(SA, properties.getUser());
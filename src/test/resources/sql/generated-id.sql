@@ -0,0 +1,19 @@
+create sequence IF NOT EXISTS invoices_seq start with 1 increment by 5;
+
+create table IF NOT EXISTS invoices
+(
+    id     bigint PRIMARY KEY,
+    number text not null
+);
+
+create table IF NOT EXISTS orders
+(
+    id          bigint PRIMARY KEY AUTO_INCREMENT,
+    description text not null
+);
+
+create table IF NOT EXISTS events
+(
+    id   uuid PRIMARY KEY,
+    name text not null
+);